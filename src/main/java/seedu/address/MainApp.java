@@ -2,12 +2,21 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -25,17 +34,22 @@ import seedu.address.model.ReadOnlyDatesBook;
 import seedu.address.model.ReadOnlyLessonBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.DatesBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryDatesBookStorage;
+import seedu.address.storage.BinaryLessonBookStorage;
+import seedu.address.storage.DataFileConverter;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonDatesBookStorage;
 import seedu.address.storage.JsonLessonBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.LessonBookStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,6 +60,13 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
 
+    /** Number of students added to the person list at a time when the data is loaded after the window is shown. */
+    private static final int STARTUP_BATCH_SIZE = 500;
+    private static final String MESSAGE_LOADING = "Loading data...";
+    private static final String MESSAGE_LOADING_STUDENTS = "Loaded %1$d of %2$d students";
+    private static final String MESSAGE_LOADING_FAILED = "Could not load the data. Please restart the app.";
+    private static final String MESSAGE_SAVING_FAILED = "Could not save the data, retrying after the next command: %s";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -54,6 +75,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private UserPrefs userPrefs;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -63,22 +86,78 @@ public class MainApp extends Application {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        DatesBookStorage datesBookStorage = new JsonDatesBookStorage(userPrefs.getDatesBookFilePath());
-        LessonBookStorage lessonBookStorage = new JsonLessonBookStorage(userPrefs.getLessonBookFilePath());
-
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, datesBookStorage, lessonBookStorage);
+        userPrefs = initPrefs(userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        WriteBehindStorage writeBehindStorage =
+                new WriteBehindStorage(initStorage(userPrefsStorage, userPrefs));
+        writeBehindStorage.setWriteStatusHandler(failure -> Platform.runLater(() -> logic.setSaveStatus(
+                failure.map(e -> String.format(MESSAGE_SAVING_FAILED, e.getMessage())).orElse(""))));
+        storage = writeBehindStorage;
+
+        if (config.isProgressiveStartup()) {
+            // the data is loaded in start(), once the window is shown
+            model = new ModelManager(new AddressBook(), userPrefs, new DatesBook(), new LessonBook());
+            logic = new LogicManager(model, storage);
+            logic.setLoadingStatus(MESSAGE_LOADING);
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage);
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code Storage} that keeps the data files in the format chosen in {@code userPrefs}, and journals the
+     * changes made to them if journaling is chosen in {@code userPrefs}.
+     * If the data files in another format were saved more recently, such as when the format has just been changed,
+     * the most recently saved ones are converted to the chosen format first.
+     */
+    private Storage initStorage(UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        Path datesBookFilePath = userPrefs.getDatesBookFilePath();
+        Path lessonBookFilePath = userPrefs.getLessonBookFilePath();
+        Map<DataFileFormat, StorageManager> storages = new EnumMap<>(DataFileFormat.class);
+        storages.put(DataFileFormat.JSON, new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                userPrefsStorage, new JsonDatesBookStorage(datesBookFilePath),
+                new JsonLessonBookStorage(lessonBookFilePath)));
+        storages.put(DataFileFormat.BINARY, new StorageManager(
+                new BinaryAddressBookStorage(DataFileConverter.getBinaryFilePath(addressBookFilePath)),
+                userPrefsStorage, new BinaryDatesBookStorage(DataFileConverter.getBinaryFilePath(datesBookFilePath)),
+                new BinaryLessonBookStorage(DataFileConverter.getBinaryFilePath(lessonBookFilePath))));
+        storages.put(DataFileFormat.SEGMENTED, new StorageManager(
+                new SegmentedAddressBookStorage(DataFileConverter.getSegmentedFilePath(addressBookFilePath)),
+                userPrefsStorage, new JsonDatesBookStorage(datesBookFilePath),
+                new JsonLessonBookStorage(lessonBookFilePath)));
+
+        StorageManager chosenStorageManager = storages.get(userPrefs.getDataFileFormat());
+        Storage chosenStorage = userPrefs.isJournaling()
+                ? new JournalStorage(chosenStorageManager)
+                : chosenStorageManager;
+        try {
+            List<Storage> otherStorages = new ArrayList<>();
+            for (StorageManager storage : storages.values()) {
+                if (!userPrefs.isJournaling()) {
+                    // the journals left by an earlier run with journaling would not be read
+                    JournalStorage.compactJournals(storage);
+                }
+                if (storage != chosenStorageManager) {
+                    otherStorages.add(userPrefs.isJournaling() ? new JournalStorage(storage) : storage);
+                }
+            }
+            DataFileConverter.convertIfNewer(otherStorages, chosenStorage);
+        } catch (DataConversionException e) {
+            logger.warning("Data files not in the correct format. Could not convert them to the "
+                    + userPrefs.getDataFileFormat() + " format");
+        } catch (IOException e) {
+            logger.warning("Problem while converting the data files to the " + userPrefs.getDataFileFormat()
+                    + " format");
+        }
+        return chosenStorage;
+    }
+
     private ReadOnlyAddressBook initReadOnlyAddressBook(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
@@ -119,11 +198,14 @@ public class MainApp extends Application {
         return initialDatesData;
     }
 
-    private ReadOnlyLessonBook initReadOnlyLessonBook(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    /**
+     * Returns the lesson book in {@code storage}, whose lessons hold the persons in {@code addressBook}.
+     */
+    private ReadOnlyLessonBook initReadOnlyLessonBook(Storage storage, ReadOnlyAddressBook addressBook) {
         Optional<ReadOnlyLessonBook> lessonBookOptional;
         ReadOnlyLessonBook initialLessonData;
         try {
-            lessonBookOptional = storage.readLessonBook();
+            lessonBookOptional = storage.readLessonBook(addressBook);
             if (!lessonBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample LessonBook");
             }
@@ -145,13 +227,80 @@ public class MainApp extends Application {
      * lesson book is not found,
      * or an empty address book, dates book or lesson book will be used instead if errors occur when reading {@code
      * storage}'s address book, dates book or lesson book.
+     * The address book and dates book are read concurrently, and the lesson book is read as soon as the address book
+     * it refers to is ready. All of them are read before this method returns.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        ReadOnlyAddressBook initialData = initReadOnlyAddressBook(storage, userPrefs);
-        ReadOnlyDatesBook initialDatesData = initReadOnlyDatesBook(storage, userPrefs);
-        ReadOnlyLessonBook initialLessonData = initReadOnlyLessonBook(storage, userPrefs);
+        ExecutorService executor = newDataLoaderExecutor();
+        try {
+            CompletableFuture<ReadOnlyAddressBook> initialData = CompletableFuture.supplyAsync(() ->
+                    initReadOnlyAddressBook(storage, userPrefs), executor);
+            CompletableFuture<ReadOnlyDatesBook> initialDatesData = CompletableFuture.supplyAsync(() ->
+                    initReadOnlyDatesBook(storage, userPrefs), executor);
+            CompletableFuture<ReadOnlyLessonBook> initialLessonData = initialData.thenApplyAsync(addressBook ->
+                    initReadOnlyLessonBook(storage, addressBook), executor);
+            CompletableFuture.allOf(initialData, initialDatesData, initialLessonData).join();
+
+            return new ModelManager(initialData.join(), userPrefs, initialDatesData.join(), initialLessonData.join());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Loads the data from {@code storage} into the empty {@code model} in the background, while the window is shown.
+     * The address book and dates book are read concurrently. The students are added to the model in batches once the
+     * address book has been read, while the lesson book that refers to them is being read.
+     * Commands are not executed until all of the data has been loaded.
+     */
+    private void loadModelInBackground(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        ExecutorService executor = newDataLoaderExecutor();
+        CompletableFuture<ReadOnlyAddressBook> initialData = CompletableFuture.supplyAsync(() ->
+                initReadOnlyAddressBook(storage, userPrefs), executor);
+        CompletableFuture<Void> datesLoaded = CompletableFuture.supplyAsync(() ->
+                initReadOnlyDatesBook(storage, userPrefs), executor)
+                .thenAccept(datesBook -> Platform.runLater(() -> model.setDatesBook(datesBook)));
+        CompletableFuture<Void> personsLoaded = initialData.thenAccept(addressBook ->
+                addPersonsInBatches(addressBook.getPersonList()));
+        CompletableFuture<ReadOnlyLessonBook> initialLessonData = initialData.thenApplyAsync(addressBook ->
+                initReadOnlyLessonBook(storage, addressBook), executor);
+
+        CompletableFuture.allOf(datesLoaded, personsLoaded, initialLessonData).whenComplete((unused, e) -> {
+            executor.shutdown();
+            if (e != null) {
+                logger.severe("Failed to load data " + StringUtil.getDetails(e));
+                Platform.runLater(() -> logic.setLoadingStatus(MESSAGE_LOADING_FAILED));
+                return;
+            }
+            Platform.runLater(() -> {
+                model.setLessonBook(initialLessonData.join());
+                logic.finishLoading();
+            });
+        });
+    }
+
+    /**
+     * Adds {@code persons} to the model on the JavaFX application thread, {@code STARTUP_BATCH_SIZE} at a time,
+     * so that the window stays responsive and the students appear as they are added.
+     */
+    private void addPersonsInBatches(List<Person> persons) {
+        int total = persons.size();
+        for (int start = 0; start < total; start += STARTUP_BATCH_SIZE) {
+            int end = Math.min(start + STARTUP_BATCH_SIZE, total);
+            List<Person> batch = List.copyOf(persons.subList(start, end));
+            Platform.runLater(() -> {
+                model.addPersons(batch);
+                logic.setLoadingStatus(String.format(MESSAGE_LOADING_STUDENTS, end, total));
+            });
+        }
+    }
 
-        return new ModelManager(initialData, userPrefs, initialDatesData, initialLessonData);
+    private static ExecutorService newDataLoaderExecutor() {
+        return Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "data-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     private void initLogging(Config config) {
@@ -230,6 +379,9 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (config.isProgressiveStartup()) {
+            loadModelInBackground(storage, userPrefs);
+        }
     }
 
     @Override
@@ -240,5 +392,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean progressiveStartup = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +33,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the main window should be shown before the data files have been read,
+     * with the students shown as they are loaded.
+     */
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +57,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && progressiveStartup == o.progressiveStartup;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, progressiveStartup);
     }
 
     @Override
@@ -57,6 +71,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nProgressive startup : " + progressiveStartup);
         return sb.toString();
     }
 
@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book, dates book and lesson book can be saved.
+ */
+public enum DataFileFormat {
+    /** Pretty-printed JSON, which can be read and edited by hand. */
+    JSON,
+    /** A compact binary snapshot, which is smaller and faster to load. */
+    BINARY,
+    /**
+     * JSON with the address book split into segment files, so that saving a change to a student only rewrites the
+     * segment holding that student. The dates book and lesson book are kept in the same files as in {@link #JSON}.
+     */
+    SEGMENTED
+}
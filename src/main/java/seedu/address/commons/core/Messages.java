@@ -13,4 +13,8 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d students listed!";
     public static final String MESSAGE_INVALID_IMPORTANT_DATE_DISPLAYED_INDEX = "There is no important date with "
             + "this given index.";
+    public static final String MESSAGE_STILL_LOADING = "The data is still being loaded. Please try again shortly.";
+    public static final String MESSAGE_COMMAND_QUEUED = "The data is still being loaded. \"%1$s\" will be run once "
+            + "it is ready.";
+    public static final String MESSAGE_QUEUED_COMMANDS_DROPPED = "%1$d queued command(s) were not run.";
 }
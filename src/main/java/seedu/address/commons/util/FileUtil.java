@@ -1,10 +1,22 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +24,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +89,105 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter, WriteCache)
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        writeToFile(file, contentWriter, new WriteCache());
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * The content is streamed to a temporary file next to {@code file}, and its checksum is computed on the way. If it
+     * matches the checksum of the content last written to {@code file} through {@code writeCache}, and {@code file}
+     * has not been modified since, the temporary file is discarded and {@code file} is left untouched. Otherwise the
+     * temporary file replaces {@code file}, so that {@code file} is never left half-written.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, WriteCache writeCache)
+            throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+        requireNonNull(writeCache);
+
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        try {
+            CRC32C checksum = new CRC32C();
+            long size;
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), checksum), BUFFER_SIZE);
+                contentWriter.write(new UnclosableOutputStream(out));
+                out.flush();
+                size = channel.size();
+                if (writeCache.isCurrentContentOf(file, checksum.getValue(), size)) {
+                    return;
+                }
+                channel.force(false);
+            }
+            writeCache.forget(file);
+            replaceFile(tempFile, file);
+            writeCache.remember(file, checksum.getValue(), size);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code source}, so that {@code target} holds either its old or its new content
+     * even if the app stops part way through.
+     * Falls back to a plain move on file systems that do not support atomic moves.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. {@code out} does not need to be closed.
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An output stream that is only flushed when it is closed, so that the file it writes to can still be checked and
+     * synced after a {@link ContentWriter} closes the stream it is given.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
@@ -2,19 +2,31 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +34,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -30,6 +43,8 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -40,12 +55,25 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, new WriteCache());
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, WriteCache writeCache)
+            throws IOException {
+        FileUtil.writeToFile(jsonFile, outputStream ->
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(outputStream, objectToSerialize), writeCache);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = openForReading(jsonFile)) {
+            return objectMapper.readValue(inputStream, classOfObjectToDeserialize);
+        }
+    }
+
+    private static InputStream openForReading(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        return new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
     }
 
     /**
@@ -84,12 +112,110 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, new WriteCache());
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but leaves the file untouched if it still holds the same Json
+     * as last saved to it through {@code writeCache}.
+     *
+     * @see FileUtil#writeToFile(Path, FileUtil.ContentWriter, WriteCache)
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, WriteCache writeCache) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
+        requireNonNull(writeCache);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, writeCache);
     }
 
+    /**
+     * Saves {@code records} to the specified file, as a Json object whose {@code fieldName} field is an array of the
+     * records.
+     * Each record is written as soon as it is taken from {@code records}, so the records are never all held in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String fieldName, Stream<T> records) throws IOException {
+        saveJsonArrayFile(filePath, fieldName, records, new WriteCache());
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(Path, String, Stream)}, but leaves the file untouched if it still holds the
+     * same Json as last saved to it through {@code writeCache}.
+     *
+     * @see FileUtil#writeToFile(Path, FileUtil.ContentWriter, WriteCache)
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String fieldName, Stream<T> records,
+                                             WriteCache writeCache) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+        requireNonNull(records);
+        requireNonNull(writeCache);
+
+        ObjectWriter recordWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        FileUtil.writeToFile(filePath, outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(fieldName);
+                Iterator<T> iterator = records.iterator();
+                while (iterator.hasNext()) {
+                    recordWriter.writeValue(generator, iterator.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, writeCache);
+    }
+
+    /**
+     * Reads the records in the {@code fieldName} array of the Json object in the given file, and passes each of them to
+     * {@code recordConsumer} as soon as it is read, so the records are never all held in memory.
+     * Other fields of the Json object are skipped.
+     * @param filePath cannot be null.
+     * @param recordClass each record in the array has to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if {@code recordConsumer} rejects a record.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String fieldName, Class<T> recordClass,
+            RecordConsumer<T> recordConsumer) throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+        requireNonNull(recordConsumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(openForReading(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String currentFieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!currentFieldName.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + fieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    recordConsumer.accept(objectMapper.readValue(parser, recordClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +236,28 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Processes a record read by {@link #readJsonArrayFile(Path, String, Class, RecordConsumer)}.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer<T> {
+        /**
+         * Processes {@code record}.
+         * @throws IllegalValueException if {@code record} violates any data constraints.
+         */
+        void accept(T record) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
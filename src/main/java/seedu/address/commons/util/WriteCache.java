@@ -0,0 +1,64 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the content last written to each file through {@link FileUtil#writeToFile(Path, FileUtil.ContentWriter,
+ * WriteCache)}, so that writing the same content to the file again can be skipped.
+ * Each storage keeps its own cache, so the files written by one storage are never compared with what another storage
+ * wrote.
+ */
+public class WriteCache {
+
+    // The content last written to each file, by absolute path
+    private final Map<Path, WrittenContent> writtenContents = new ConcurrentHashMap<>();
+
+    /**
+     * Returns true if {@code file} still holds the content with {@code checksum}, of {@code size} bytes, last written
+     * to it through this cache, as it has not been modified since.
+     */
+    boolean isCurrentContentOf(Path file, long checksum, long size) throws IOException {
+        WrittenContent writtenContent = writtenContents.get(getKey(file));
+        return writtenContent != null && writtenContent.checksum == checksum && writtenContent.size == size
+                && Files.exists(file) && Files.size(file) == size
+                && Files.getLastModifiedTime(file).equals(writtenContent.lastModifiedTime);
+    }
+
+    /**
+     * Remembers that the content with {@code checksum}, of {@code size} bytes, has just been written to {@code file}.
+     */
+    void remember(Path file, long checksum, long size) throws IOException {
+        writtenContents.put(getKey(file), new WrittenContent(checksum, size, Files.getLastModifiedTime(file)));
+    }
+
+    /**
+     * Forgets the content last written to {@code file}, as it is about to be replaced.
+     */
+    void forget(Path file) {
+        writtenContents.remove(getKey(file));
+    }
+
+    private static Path getKey(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    /**
+     * The checksum and size of the content last written to a file, and the time the file was modified by the write.
+     */
+    private static class WrittenContent {
+        private final long checksum;
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        WrittenContent(long checksum, long size, FileTime lastModifiedTime) {
+            this.checksum = checksum;
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+    }
+}
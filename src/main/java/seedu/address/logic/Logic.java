@@ -2,6 +2,8 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -31,6 +33,39 @@ public interface Logic {
 
     void setSavedState(boolean isSavedState);
 
+    /**
+     * Returns a property that is true while the data is still being loaded into the model.
+     * Commands cannot be executed until it becomes false.
+     */
+    ReadOnlyBooleanProperty loadingProperty();
+
+    /**
+     * Returns a property holding a description of how much of the data has been loaded,
+     * or an empty string if the data is not being loaded.
+     */
+    ReadOnlyStringProperty loadingStatusProperty();
+
+    /**
+     * Marks the data as being loaded, with {@code status} describing how much of it has been loaded.
+     */
+    void setLoadingStatus(String status);
+
+    /**
+     * Marks the data as loaded. The data in the model at this point is taken to be the saved data.
+     */
+    void finishLoading();
+
+    /**
+     * Returns a property holding a description of why the data could not be saved in the background,
+     * or an empty string if it was saved.
+     */
+    ReadOnlyStringProperty saveStatusProperty();
+
+    /**
+     * Sets the description of why the data could not be saved in the background, or an empty string once it is saved.
+     */
+    void setSaveStatus(String status);
+
     ObservableList<Lesson> getSortedLessonsForDay(String keyword);
 
     ObservableList<String> getLessonsForDayInString(String keyword);
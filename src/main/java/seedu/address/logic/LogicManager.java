@@ -1,13 +1,22 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,11 +25,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyDatesBook;
+import seedu.address.model.ReadOnlyLessonBook;
 import seedu.address.model.date.ImportantDate;
+import seedu.address.model.lesson.Day;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.predicate.LessonDayPredicate;
-import seedu.address.model.person.predicate.LessonPersonPredicate;
 import seedu.address.storage.Storage;
 
 /**
@@ -33,6 +42,13 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BooleanProperty isLoading = new SimpleBooleanProperty(false);
+    private final StringProperty loadingStatus = new SimpleStringProperty("");
+    private final StringProperty saveStatus = new SimpleStringProperty("");
+
+    private long savedAddressBookVersion;
+    private long savedDatesBookVersion;
+    private long savedLessonBookVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,26 +57,96 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        markBooksAsSaved();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isLoading.get()) {
+            throw new CommandException(Messages.MESSAGE_STILL_LOADING);
+        }
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveDatesBook(model.getDatesBook());
-            storage.saveLessonBook(model.getLessonBook());
+            saveModifiedBooks();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
         return commandResult;
     }
 
+    /**
+     * Saves the books that have been modified since they were last saved.
+     * A book that fails to save is left marked as modified, so that it is saved again after the next command.
+     */
+    private void saveModifiedBooks() throws IOException {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook.getVersion() != savedAddressBookVersion) {
+            storage.saveAddressBook(addressBook);
+            savedAddressBookVersion = addressBook.getVersion();
+        }
+
+        ReadOnlyDatesBook datesBook = model.getDatesBook();
+        if (datesBook.getVersion() != savedDatesBookVersion) {
+            storage.saveDatesBook(datesBook);
+            savedDatesBookVersion = datesBook.getVersion();
+        }
+
+        ReadOnlyLessonBook lessonBook = model.getLessonBook();
+        if (lessonBook.getVersion() != savedLessonBookVersion) {
+            storage.saveLessonBook(lessonBook);
+            savedLessonBookVersion = lessonBook.getVersion();
+        }
+    }
+
+    /**
+     * Takes the books in the model to be the ones in storage, so that they are only saved once they are modified.
+     */
+    private void markBooksAsSaved() {
+        savedAddressBookVersion = model.getAddressBook().getVersion();
+        savedDatesBookVersion = model.getDatesBook().getVersion();
+        savedLessonBookVersion = model.getLessonBook().getVersion();
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return isLoading;
+    }
+
+    @Override
+    public ReadOnlyStringProperty loadingStatusProperty() {
+        return loadingStatus;
+    }
+
+    @Override
+    public void setLoadingStatus(String status) {
+        requireNonNull(status);
+        loadingStatus.set(status);
+        isLoading.set(true);
+    }
+
+    @Override
+    public void finishLoading() {
+        markBooksAsSaved();
+        loadingStatus.set("");
+        isLoading.set(false);
+    }
+
+    @Override
+    public ReadOnlyStringProperty saveStatusProperty() {
+        return saveStatus;
+    }
+
+    @Override
+    public void setSaveStatus(String status) {
+        requireNonNull(status);
+        saveStatus.set(status);
+    }
+
     @Override
     public boolean isProceed(String commandText) throws ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
@@ -83,8 +169,10 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Lesson> getSortedLessonsForDay(String keyword) {
-        this.model.filterThenSortLessonList(new LessonDayPredicate(keyword), Lesson::compareTo);
-        return getTransformedLessonList();
+        if (!Day.isValidDay(keyword)) {
+            return FXCollections.emptyObservableList();
+        }
+        return model.getLessonsForDay(Day.of(keyword));
     }
 
     @Override
@@ -134,8 +222,7 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Lesson> getSpecificLessonList(Person person) {
-        model.filterThenSortLessonList(new LessonPersonPredicate(person), Lesson::compareTo);
-        return model.getTransformedLessonListForPerson();
+        return model.getLessonListForPerson(person);
     }
 
     @Override
@@ -63,12 +63,12 @@ public class EditCommand extends Command {
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Student: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_NAME_LESSON = "The student name %1$s already exists "
-            + "with a different phone number. \n" + "You also have a lesson at %2$s with %3$s. \n"
+            + "with a different phone number (%2$s). \n" + "You also have a lesson at %3$s with %4$s. \n"
             + "Do you wish to proceed? y/n";
     public static final String MESSAGE_DUPLICATE_PERSON = "%1$s already belongs to another student in TutorsPet. \n"
             + "Please assign a unique phone number to student %2$s.";
     public static final String MESSAGE_POTENTIAL_DUPLICATE = "This student name %1$s already exists "
-            + "with a different phone number. \n" + "Do you wish to proceed? y/n";
+            + "with a different phone number (%2$s). \n" + "Do you wish to proceed? y/n";
     public static final String MESSAGE_DUPLICATE_LESSON = "You have a lesson at %1$s with %2$s. \n"
             + "Do you wish to proceed? y/n";
     public static final int DUPLICATE_PERSON = 1;
@@ -79,6 +79,7 @@ public class EditCommand extends Command {
     private final EditPersonDescriptor editPersonDescriptor;
     private int duplicate;
     private ArrayList<Lesson> duplicateLessons;
+    private List<Person> potentialDuplicates;
 
     /**
      * @param index of the student in the filtered student list to edit
@@ -92,6 +93,7 @@ public class EditCommand extends Command {
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
         duplicate = 0;
         duplicateLessons = new ArrayList<>();
+        potentialDuplicates = new ArrayList<>();
     }
 
     @Override
@@ -149,27 +151,30 @@ public class EditCommand extends Command {
         Set<Subject> updatedSubjects = editPersonDescriptor.getSubjects().orElse(personToEdit.getSubjects());
         Set<Lesson> updatedLessons = editPersonDescriptor.getLessons().orElse(personToEdit.getLessons());
 
-        return new Person(updatedName, updatedPhone, updatedSchool, updatedEmail, updatedAddress,
-                updatedGuardianName, updatedGuardianPhone, updatedLevel, updatedSubjects, updatedLessons);
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedSchool, updatedEmail,
+                updatedAddress, updatedGuardianName, updatedGuardianPhone, updatedLevel, updatedSubjects,
+                updatedLessons);
     }
 
     /**
      * Checks if person to be edited has the same name or same lessons as the contacts in TutorsPet.
      */
     public void checkForDuplicateNameOrLesson(Model model, Person personToEdit, Person editedPerson) {
-        if (!personToEdit.isPotentialSamePerson(editedPerson) && model.hasPotentialPerson(editedPerson)
-                && editPersonDescriptor.isNameEdited()) {
-            model.setSavedState(true);
-            duplicate = DUPLICATE_PERSON;
+        if (editPersonDescriptor.isNameEdited() && !personToEdit.isPotentialSamePerson(editedPerson)) {
+            potentialDuplicates = model.getPotentialPersons(editedPerson);
+            if (!potentialDuplicates.isEmpty()) {
+                model.setSavedState(true);
+                duplicate = DUPLICATE_PERSON;
+            }
         }
 
         if (editPersonDescriptor.isLessonEdited()) {
             for (Lesson lesson : editedPerson.getLessons()) {
-                if (personToEdit.getLessons().stream().anyMatch(lesson::isSameLesson)) {
+                if (personToEdit.getLessons().contains(lesson) || !model.hasLesson(lesson)) {
                     continue;
                 }
-                if (model.hasLesson(lesson) && !(model.getLesson(lesson).getNumberOfPerson() == 1
-                        && model.getLesson(lesson).containsPerson(personToEdit))) {
+                Lesson existingLesson = model.getLesson(lesson);
+                if (!(existingLesson.getNumberOfPerson() == 1 && existingLesson.containsPerson(personToEdit))) {
                     model.setSavedState(true);
                     this.duplicateLessons.add(lesson);
                     this.duplicate = this.duplicate == 0 ? DUPLICATE_LESSON : DUPLICATE_LESSON_AND_PERSON;
@@ -185,7 +190,8 @@ public class EditCommand extends Command {
     public void handleDuplicateNameOrLesson(Model model, Person editedPerson) throws CommandException {
         switch(duplicate) {
         case DUPLICATE_PERSON:
-            throw new CommandException(String.format(MESSAGE_POTENTIAL_DUPLICATE, editedPerson.getName()));
+            throw new CommandException(String.format(MESSAGE_POTENTIAL_DUPLICATE, editedPerson.getName(),
+                    getPotentialDuplicatePhones()));
         case DUPLICATE_LESSON:
             throw new CommandException(String.format(MESSAGE_DUPLICATE_LESSON,
                     duplicateLessons.stream().map(Lesson::formatString).collect(Collectors.joining(", ")),
@@ -193,6 +199,7 @@ public class EditCommand extends Command {
                             .collect(Collectors.joining(" and "))));
         case DUPLICATE_LESSON_AND_PERSON:
             throw new CommandException(String.format(MESSAGE_DUPLICATE_NAME_LESSON, editedPerson.getName(),
+                    getPotentialDuplicatePhones(),
                     duplicateLessons.stream().map(Lesson::formatString).collect(Collectors.joining(", ")),
                     duplicateLessons.stream().map(model::getLesson).map(Lesson::getPersonInString)
                             .collect(Collectors.joining(" and "))));
@@ -201,6 +208,11 @@ public class EditCommand extends Command {
         }
     }
 
+    private String getPotentialDuplicatePhones() {
+        return potentialDuplicates.stream().map(person -> person.getPhone().value)
+                .collect(Collectors.joining(", "));
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
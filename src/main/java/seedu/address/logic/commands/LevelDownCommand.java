@@ -47,7 +47,6 @@ public class LevelDownCommand extends Command {
             checkIndexWithinBounds(model);
         }
         model.filterIndicesThenTransformPersonList(indices, new PersonLevelDownFunction());
-        // model.updateTransformedPersonList(new PersonLevelUpFunction(indices));
         if (!hasIndices) {
             return new CommandResult(MESSAGE_SUCCESS);
         } else {
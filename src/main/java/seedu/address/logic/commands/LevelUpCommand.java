@@ -47,7 +47,6 @@ public class LevelUpCommand extends Command {
             checkIndexWithinBounds(model);
         }
         model.filterIndicesThenTransformPersonList(indices, new PersonLevelUpFunction());
-        // model.updateTransformedPersonList(new PersonLevelUpFunction(indices));
         if (!hasIndices) {
             return new CommandResult(MESSAGE_SUCCESS);
         } else {
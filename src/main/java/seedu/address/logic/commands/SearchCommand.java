@@ -2,11 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.predicate.NameSchoolAndSubjectContainsKeywordsPredicate;
 
 /**
  * Finds and lists all students in TutorsPet whose name, school or subject contains any of the argument keywords.
@@ -22,16 +20,16 @@ public class SearchCommand extends Command {
             + "Parameters: [n/KEYWORDS] [s/KEYWORDS] [t/KEYWORDS]\n"
             + "Example: " + COMMAND_WORD + " s/woodlands";
 
-    private final Predicate<Person> predicate;
+    private final NameSchoolAndSubjectContainsKeywordsPredicate predicate;
 
-    public SearchCommand(Predicate<Person> predicate) {
+    public SearchCommand(NameSchoolAndSubjectContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.searchPersons(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -87,7 +87,7 @@ public class ParserUtil {
         if (!School.isValidSchool(trimmedSchool)) {
             throw new ParseException(School.MESSAGE_CONSTRAINTS);
         }
-        return Optional.of(new School(trimmedSchool));
+        return Optional.of(School.of(trimmedSchool));
     }
 
     /**
@@ -162,7 +162,7 @@ public class ParserUtil {
         if (!Level.isValidLevel(trimmedLevel)) {
             throw new ParseException(Level.MESSAGE_CONSTRAINTS);
         }
-        return Optional.of(new Level(trimmedLevel));
+        return Optional.of(Level.of(trimmedLevel));
     }
 
     /**
@@ -177,7 +177,7 @@ public class ParserUtil {
         if (!Subject.isValidSubjectName(trimmedSubject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(trimmedSubject);
+        return Subject.of(trimmedSubject);
     }
 
     /**
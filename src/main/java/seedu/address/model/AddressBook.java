@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.ChangeLog;
 
 /**
  * Wraps all data at the address-book level
@@ -15,6 +21,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ChangeLog<PersonId, Person> changeLog = new ChangeLog<>();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +53,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        changeLog.reset();
+        version++;
     }
 
     /**
@@ -74,12 +84,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.potentialContains(person);
     }
 
+    /**
+     * Returns the persons with the same name but different phone as {@code person} in the address book.
+     */
+    public List<Person> getPotentialPersons(Person person) {
+        requireNonNull(person);
+        return persons.getPotentialPersons(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        changeLog.recordChange(p.getId(), p);
+        version++;
     }
 
     /**
@@ -91,6 +111,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (!target.getId().equals(editedPerson.getId())) {
+            changeLog.recordRemoval(target.getId(), target);
+        }
+        changeLog.recordChange(editedPerson.getId(), editedPerson);
+        version++;
     }
 
     /**
@@ -99,6 +124,35 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        changeLog.recordRemoval(key.getId(), key);
+        version++;
+    }
+
+    /**
+     * Replaces every person in the address book, except those at the positions set in {@code excludedPositions},
+     * with the result of {@code transformation}.
+     * The transformed persons must not have the same person identity as one another.
+     *
+     * @return the persons that were replaced, in person list order, each mapped to the person that replaced it.
+     */
+    public Map<Person, Person> transformPersons(UnaryOperator<Person> transformation, BitSet excludedPositions) {
+        Map<Person, Person> replacedPersons = persons.transformPersons(transformation, excludedPositions);
+        replacedPersons.forEach((previousPerson, transformedPerson) -> {
+            if (!previousPerson.getId().equals(transformedPerson.getId())) {
+                changeLog.recordRemoval(previousPerson.getId(), previousPerson);
+            }
+            changeLog.recordChange(transformedPerson.getId(), transformedPerson);
+        });
+        version++;
+        return replacedPersons;
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
     }
 
     //// util methods
@@ -114,6 +168,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<ChangeLog.Mark> getChangeMark() {
+        return Optional.of(changeLog.getMark());
+    }
+
+    @Override
+    public Optional<List<ChangeLog.Change<Person>>> getChangesSince(ChangeLog.Mark mark) {
+        return changeLog.getChangesSince(mark);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
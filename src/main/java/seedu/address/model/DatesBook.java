@@ -3,14 +3,19 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.date.Description;
 import seedu.address.model.date.ImportantDate;
 import seedu.address.model.date.UniqueDateList;
+import seedu.address.model.util.ChangeLog;
 
 public class DatesBook implements ReadOnlyDatesBook {
 
     private final UniqueDateList importantDates;
+    private final ChangeLog<Description, ImportantDate> changeLog = new ChangeLog<>();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -41,6 +46,8 @@ public class DatesBook implements ReadOnlyDatesBook {
      */
     public void setImportantDates(List<ImportantDate> importantDates) {
         this.importantDates.setImportantDates(importantDates);
+        changeLog.reset();
+        version++;
     }
 
     /**
@@ -69,6 +76,8 @@ public class DatesBook implements ReadOnlyDatesBook {
      */
     public void addImportantDate(ImportantDate date) {
         importantDates.add(date);
+        changeLog.recordChange(date.getDescription(), date);
+        version++;
     }
 
     /**
@@ -77,6 +86,8 @@ public class DatesBook implements ReadOnlyDatesBook {
      */
     public void removeImportantDate(ImportantDate key) {
         importantDates.remove(key);
+        changeLog.recordRemoval(key.getDescription(), key);
+        version++;
     }
 
     //// util methods
@@ -91,6 +102,21 @@ public class DatesBook implements ReadOnlyDatesBook {
         return importantDates.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<ChangeLog.Mark> getChangeMark() {
+        return Optional.of(changeLog.getMark());
+    }
+
+    @Override
+    public Optional<List<ChangeLog.Change<ImportantDate>>> getChangesSince(ChangeLog.Mark mark) {
+        return changeLog.getChangesSince(mark);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
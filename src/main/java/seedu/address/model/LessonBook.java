@@ -2,16 +2,23 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.UniqueLessonList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.util.ChangeLog;
 
 public class LessonBook implements ReadOnlyLessonBook {
 
     private final UniqueLessonList lessons;
+    private final ChangeLog<Lesson, Lesson> changeLog = new ChangeLog<>();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -42,6 +49,8 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void setLessons(List<Lesson> lessons) {
         this.lessons.setLessons(lessons);
+        changeLog.reset();
+        version++;
     }
 
     /**
@@ -75,6 +84,8 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void addLesson(Lesson lesson) {
         lessons.add(lesson);
+        changeLog.recordChange(lesson, lesson);
+        version++;
     }
 
     /**
@@ -83,6 +94,10 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void addPersonToLesson(Person person) {
         lessons.addPersonToLesson(person);
+        for (Lesson lesson : person.getLessons()) {
+            changeLog.recordChange(lesson, lessons.getLesson(lesson));
+        }
+        version++;
     }
 
     /**
@@ -90,7 +105,31 @@ public class LessonBook implements ReadOnlyLessonBook {
      * The person must already exist in the lesson.
      */
     public void removePersonFromLesson(Person person) {
+        List<Lesson> affectedLessons = new ArrayList<>();
+        for (Lesson lesson : person.getLessons()) {
+            if (lessons.contains(lesson)) {
+                affectedLessons.add(lessons.getLesson(lesson));
+            }
+        }
         lessons.removePersonFromLesson(person);
+        for (Lesson lesson : affectedLessons) {
+            if (lessons.contains(lesson)) {
+                changeLog.recordChange(lesson, lesson);
+            } else {
+                changeLog.recordRemoval(lesson, lesson);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the persons in all lessons whose ids are keys of {@code replacements} with the persons they map to.
+     */
+    public void replacePersons(Map<PersonId, Person> replacements) {
+        for (Lesson lesson : lessons.replacePersons(replacements)) {
+            changeLog.recordChange(lesson, lesson);
+        }
+        version++;
     }
 
     /**
@@ -99,6 +138,8 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void removeLesson(Lesson key) {
         lessons.remove(key);
+        changeLog.recordRemoval(key, key);
+        version++;
     }
 
     //// util methods
@@ -114,6 +155,21 @@ public class LessonBook implements ReadOnlyLessonBook {
         return lessons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<ChangeLog.Mark> getChangeMark() {
+        return Optional.of(changeLog.getMark());
+    }
+
+    @Override
+    public Optional<List<ChangeLog.Change<Lesson>>> getChangesSince(ChangeLog.Mark mark) {
+        return changeLog.getChangesSince(mark);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,20 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.date.ImportantDate;
 import seedu.address.model.lesson.Day;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.predicate.NameSchoolAndSubjectContainsKeywordsPredicate;
 
 /**
  * The API of the Model component.
@@ -95,6 +94,11 @@ public interface Model {
      */
     boolean hasPotentialPerson(Person person);
 
+    /**
+     * Returns the persons with the same name but different phone as {@code person} in the address book.
+     */
+    List<Person> getPotentialPersons(Person person);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -107,6 +111,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, updating the filtered person list once for all of them.
+     * None of the {@code persons} may already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -116,28 +126,39 @@ public interface Model {
 
     void filterPerson(Predicate<Person> predicate);
 
+    /**
+     * Updates the filtered person list to show only the persons matched by {@code predicate}, looking them up in the
+     * search index instead of testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void searchPersons(NameSchoolAndSubjectContainsKeywordsPredicate predicate);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and shows the persons
+     * in the order of the address book.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
-    /** Returns an unmodifiable view of the sorted person list */
+    /** Returns an unmodifiable view of the sorted person list, which is the same list as the filtered person list */
     ObservableList<Person> getSortedPersonList();
 
     /**
-     * Updates the comparator of the sorted person list to sort by the given {@code comparator}.
+     * Updates the comparator of the sorted person list to sort by the given {@code comparator}, and shows every
+     * person.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void updateSortedPersonList(Comparator<Person> comparator);
 
-    /** Returns an unmodifiable view of the transformed person list */
+    /**
+     * Returns an unmodifiable view of the transformed person list, which is the same list as the filtered person list.
+     */
     ObservableList<Person> getTransformedPersonList();
 
-    /** Transforms the transformed person list according to the {@code function} supplied. */
+    /** Replaces every person in the address book with the result of the {@code function} supplied. */
     void updateTransformedPersonList(Function<Person, Person> function);
 
     /** Filters the transformed person list by the given {@code predicate} then sorts the
@@ -146,6 +167,13 @@ public interface Model {
      */
     void filterThenSortPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
 
+    /**
+     * Replaces every person shown in the transformed person list with the result of the {@code function} supplied,
+     * except for the persons at the given {@code indices}.
+     * The persons are replaced in a single pass, as one change to the person list, and the lessons of the replaced
+     * persons are updated together. {@code function} must keep the id of each person and must not have side
+     * effects, as it may be applied to several persons at once.
+     */
     void filterIndicesThenTransformPersonList(List<Index> indices, Function<Person, Person> function);
 
     /**
@@ -201,8 +229,6 @@ public interface Model {
      */
     void setLessonBook(ReadOnlyLessonBook lessonBook);
 
-    void setTransformedDayList();
-
     /** Returns the LessonBook */
     ReadOnlyLessonBook getLessonBook();
 
@@ -225,8 +251,6 @@ public interface Model {
      */
     void addLesson(Lesson lesson);
 
-    void updateLessonDayList(ArrayList<Day> lessonDays);
-
     /**
      * Adds the given person to his/her lessons.
      * {@code person} must not already exist in the lesson.
@@ -257,17 +281,14 @@ public interface Model {
     /** Returns an unmodifiable view of the transformed lesson list */
     ObservableList<Lesson> getTransformedLessonList();
 
-    /** Returns an unmodifiable view of the transformed lesson list for a person*/
-    ObservableList<Lesson> getTransformedLessonListForPerson();
-
-    /** Filters the transformed lesson list by the given {@code predicate} then sorts the
-     * transformed lesson list by the given {@code comparator}.
-     * @throws NullPointerException if {@code comparator} is null.
+    /**
+     * Returns an unmodifiable view of the lessons of {@code person}, ordered by day and time, which is updated as the
+     * person is added to or removed from lessons.
      */
-    void filterThenSortLessonList(Predicate<Lesson> predicate, Comparator<Lesson> comparator);
+    ObservableList<Lesson> getLessonListForPerson(Person person);
 
-    void updateFilteredDailyLessonList(FilteredList<Lesson> lessons, Predicate<Lesson> predicate,
-                                       ObservableList<Lesson> transformedList);
+    /** Returns an unmodifiable view of the lessons on {@code day}, ordered by their time */
+    ObservableList<Lesson> getLessonsForDay(Day day);
 
     ObservableList<Lesson> getMondayLesson();
     ObservableList<Lesson> getTuesdayLesson();
@@ -4,29 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.date.ImportantDate;
 import seedu.address.model.lesson.Day;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.PersonLessonIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.comparators.ImportantDateDetailsComparator;
 import seedu.address.model.person.comparators.LessonTimeComparator;
-import seedu.address.model.person.predicate.LessonDayPredicate;
+import seedu.address.model.person.predicate.NameSchoolAndSubjectContainsKeywordsPredicate;
+import seedu.address.model.util.IncrementalListView;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -38,36 +41,14 @@ public class ModelManager implements Model {
     private final DatesBook datesBook;
     private final LessonBook lessonBook;
     private final UserPrefs userPrefs;
+    private final PersonSearchIndex personSearchIndex;
+    private final PersonLessonIndex personLessonIndex;
 
-    private final FilteredList<ImportantDate> filteredImportantDates;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Lesson> filteredLessons;
-
-    private final SortedList<ImportantDate> sortedImportantDates;
-    private final SortedList<Person> sortedPersons;
-    private final SortedList<Lesson> sortedLessons;
-
-    private final ObservableList<ImportantDate> transformedImportantDates;
-    private final ObservableList<Person> transformedPersons;
-    private final ObservableList<Lesson> transformedLessons;
-    private final ObservableList<Lesson> transformedLessonsForPerson;
-
-    private final FilteredList<Lesson> mondayLessons;
-    private final FilteredList<Lesson> tuesdayLessons;
-    private final FilteredList<Lesson> wednesdayLessons;
-    private final FilteredList<Lesson> thursdayLessons;
-    private final FilteredList<Lesson> fridayLessons;
-    private final FilteredList<Lesson> saturdayLessons;
-    private final FilteredList<Lesson> sundayLessons;
-
-    private final ObservableList<Lesson> transformedMondayList;
-    private final ObservableList<Lesson> transformedTuesdayList;
-    private final ObservableList<Lesson> transformedWednesdayList;
-    private final ObservableList<Lesson> transformedThursdayList;
-    private final ObservableList<Lesson> transformedFridayList;
-    private final ObservableList<Lesson> transformedSaturdayList;
-    private final ObservableList<Lesson> transformedSundayList;
+    private final IncrementalListView<ImportantDate, ImportantDate> importantDatesView;
+    private final IncrementalListView<Person, Person> personsView;
+    private final IncrementalListView<Lesson, Lesson> lessonsView;
 
+    private final Map<Day, IncrementalListView<Lesson, Lesson>> dailyLessonsViews;
 
     private Person selectedPerson;
     private boolean isSavedState;
@@ -87,36 +68,23 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.datesBook = new DatesBook(datesBook);
         this.lessonBook = new LessonBook(lessonBook);
-
-        filteredImportantDates = new FilteredList<>(this.datesBook.getImportantDatesList());
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredLessons = new FilteredList<>(this.lessonBook.getLessonList());
-
-        sortedImportantDates = new SortedList<>(this.datesBook.getImportantDatesList());
-        sortedPersons = new SortedList<>(this.addressBook.getPersonList());
-        sortedLessons = new SortedList<>(this.lessonBook.getLessonList());
-
-        transformedImportantDates = FXCollections.observableArrayList(this.datesBook.getImportantDatesList());
-        transformedPersons = FXCollections.observableArrayList(this.addressBook.getPersonList());
-        transformedLessons = FXCollections.observableArrayList(this.lessonBook.getLessonList());
-        transformedLessonsForPerson = FXCollections.observableArrayList(this.lessonBook.getLessonList());;
-
-        mondayLessons = new FilteredList<>(transformedLessons);
-        tuesdayLessons = new FilteredList<>(transformedLessons);
-        wednesdayLessons = new FilteredList<>(transformedLessons);
-        thursdayLessons = new FilteredList<>(transformedLessons);
-        fridayLessons = new FilteredList<>(transformedLessons);
-        saturdayLessons = new FilteredList<>(transformedLessons);
-        sundayLessons = new FilteredList<>(transformedLessons);
-
-        transformedMondayList = FXCollections.observableArrayList(this.mondayLessons);
-        transformedTuesdayList = FXCollections.observableArrayList(this.tuesdayLessons);
-        transformedWednesdayList = FXCollections.observableArrayList(this.wednesdayLessons);
-        transformedThursdayList = FXCollections.observableArrayList(this.thursdayLessons);
-        transformedFridayList = FXCollections.observableArrayList(this.fridayLessons);
-        transformedSaturdayList = FXCollections.observableArrayList(this.saturdayLessons);
-        transformedSundayList = FXCollections.observableArrayList(this.sundayLessons);
-
+        this.personSearchIndex = new PersonSearchIndex();
+        personSearchIndex.setPersons(this.addressBook.getPersonList());
+        this.personLessonIndex = new PersonLessonIndex();
+        personLessonIndex.setLessons(this.lessonBook.getLessonList());
+
+        importantDatesView = new IncrementalListView<>(this.datesBook.getImportantDatesList(), Function.identity());
+        personsView = new IncrementalListView<>(this.addressBook.getPersonList(), Function.identity());
+        lessonsView = new IncrementalListView<>(this.lessonBook.getLessonList(), Function.identity());
+
+        dailyLessonsViews = new HashMap<>();
+        for (Day day : Day.getDaysOfWeek()) {
+            IncrementalListView<Lesson, Lesson> dailyLessonsView =
+                    new IncrementalListView<>(this.lessonBook.getLessonList(), Function.identity());
+            dailyLessonsView.setPredicate(lesson -> lesson.getDay().equals(day));
+            dailyLessonsView.setComparator(new LessonTimeComparator());
+            dailyLessonsViews.put(day, dailyLessonsView);
+        }
 
         selectedPerson = null;
         isSavedState = false;
@@ -177,6 +145,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        personSearchIndex.setPersons(this.addressBook.getPersonList());
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -217,15 +186,34 @@ public class ModelManager implements Model {
         return addressBook.hasPotentialPerson(person);
     }
 
+    @Override
+    public List<Person> getPotentialPersons(Person person) {
+        requireNonNull(person);
+        return addressBook.getPotentialPersons(person);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        personSearchIndex.remove(target);
+        personLessonIndex.removePerson(target);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        personSearchIndex.add(person);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+            personSearchIndex.add(person);
+        }
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -233,6 +221,8 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
+        personSearchIndex.remove(target);
+        personSearchIndex.add(editedPerson);
         if (selectedPerson != null && target.equals(selectedPerson)) {
             selectedPerson = editedPerson;
         }
@@ -243,24 +233,26 @@ public class ModelManager implements Model {
         updateFilteredPersonList(predicate);
     }
 
+    @Override
+    public void searchPersons(NameSchoolAndSubjectContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<PersonId> matchingIds = personSearchIndex.search(predicate.getNameKeywords(),
+                predicate.getSchoolKeywords(), predicate.getSubjectKeywords());
+        BitSet matchingPositions = new BitSet();
+        for (PersonId id : matchingIds) {
+            matchingPositions.set(addressBook.indexOf(personSearchIndex.getPerson(id)));
+        }
+        personsView.setComparator(null);
+        personsView.setPredicate(person -> matchingIds.contains(person.getId()), matchingPositions);
+    }
+
     //=========== LessonBook ================================================================================
 
     @Override
     public void setLessonBook(ReadOnlyLessonBook lessonBook) {
         this.lessonBook.resetData(lessonBook);
+        personLessonIndex.setLessons(this.lessonBook.getLessonList());
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
-        setTransformedDayList();
-    }
-
-    @Override
-    public void setTransformedDayList() {
-        transformedMondayList.setAll(this.transformedLessons);
-        transformedTuesdayList.setAll(this.transformedLessons);
-        transformedWednesdayList.setAll(this.transformedLessons);
-        transformedThursdayList.setAll(this.transformedLessons);
-        transformedFridayList.setAll(this.transformedLessons);
-        transformedSaturdayList.setAll(this.transformedLessons);
-        transformedSundayList.setAll(this.transformedLessons);
     }
 
     @Override
@@ -282,69 +274,35 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteLesson(Lesson target) {
+        Lesson lesson = lessonBook.getLesson(target);
         lessonBook.removeLesson(target);
+        personLessonIndex.removeLesson(lesson);
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
     @Override
     public void addLesson(Lesson lesson) {
         lessonBook.addLesson(lesson);
+        personLessonIndex.addLesson(lesson);
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
-    @Override
-    public void updateLessonDayList(ArrayList<Day> lessonDays) {
-        for (int i = 0; i < lessonDays.size(); i++) {
-
-            switch (lessonDays.get(i).toString().toLowerCase(Locale.ROOT)) {
-            case "monday":
-                updateFilteredDailyLessonList(mondayLessons, new LessonDayPredicate("monday"),
-                    transformedMondayList);
-                break;
-            case "tuesday":
-                updateFilteredDailyLessonList(tuesdayLessons, new LessonDayPredicate("tuesday"),
-                    transformedTuesdayList);
-                break;
-            case "wednesday":
-                updateFilteredDailyLessonList(wednesdayLessons, new LessonDayPredicate("wednesday"),
-                    transformedWednesdayList);
-                break;
-            case "thursday":
-                updateFilteredDailyLessonList(thursdayLessons, new LessonDayPredicate("thursday"),
-                    transformedThursdayList);
-                break;
-            case "friday":
-                updateFilteredDailyLessonList(fridayLessons, new LessonDayPredicate("friday"),
-                    transformedFridayList);
-                break;
-            case "saturday":
-                updateFilteredDailyLessonList(saturdayLessons, new LessonDayPredicate("saturday"),
-                    transformedSaturdayList);
-                break;
-            case "sunday":
-                updateFilteredDailyLessonList(sundayLessons, new LessonDayPredicate("sunday"),
-                    transformedSundayList);
-                break;
-            default:
-                break;
-            }
-        }
-    }
-
     @Override
     public void addPersonToLesson(Person person) {
         lessonBook.addPersonToLesson(person);
-        ArrayList<Day> lessonDays = person.getLessonsDays();
+        for (Lesson lesson : person.getLessons()) {
+            personLessonIndex.add(person, lessonBook.getLesson(lesson));
+        }
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
-        updateLessonDayList(lessonDays);
     }
 
     @Override
     public void removePersonFromLesson(Person person) {
         lessonBook.removePersonFromLesson(person);
-        ArrayList<Day> lessonDays = person.getLessonsDays();
+        for (Lesson lesson : person.getLessons()) {
+            personLessonIndex.remove(person, lesson);
+        }
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
-        updateLessonDayList(lessonDays);
     }
 
     @Override
@@ -352,150 +310,125 @@ public class ModelManager implements Model {
         updateFilteredLessonList(predicate);
     }
 
-    //=========== Filtered Person List Accessors =============================================================
+    //=========== Person List View Accessors ==============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * Returns an unmodifiable view of the list of {@code Person} shown to the user, backed by the internal list of
+     * {@code addressBook}
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return personsView;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
-        transformedPersons.setAll(filteredPersons);
+        personsView.setComparator(null);
+        personsView.setPredicate(predicate);
     }
 
-    //=========== Sorted Person List Accessors =============================================================
-    /**
-     * Returns an unmodifiable view of the sorted list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
-     */
     @Override
     public ObservableList<Person> getSortedPersonList() {
-        return sortedPersons;
+        return personsView;
     }
 
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) throws NullPointerException {
         requireNonNull(comparator);
-        sortedPersons.setComparator(comparator);
-        transformedPersons.setAll(sortedPersons);
+        personsView.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        personsView.setComparator(comparator);
     }
 
-    //=========== Transformed Person List Accessors =============================================================
-
     @Override
     public ObservableList<Person> getTransformedPersonList() {
-        return transformedPersons;
+        return personsView;
     }
 
     @Override
     public void filterThenSortPersonList(Predicate<Person> predicate, Comparator<Person> comparator)
             throws NullPointerException {
-
         requireNonNull(comparator);
-        filteredPersons.setPredicate(predicate);
-        transformedPersons.setAll(filteredPersons);
-        SortedList<Person> newSortedPersons = transformedPersons.sorted(comparator);
-        newSortedPersons.setComparator(comparator);
-        transformedPersons.setAll(newSortedPersons);
+        personsView.setComparator(comparator);
+        personsView.setPredicate(predicate);
     }
 
     @Override
     public void updateTransformedPersonList(Function<Person, Person> function) {
-        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
-        transformedPersons.setAll(transform(filteredPersons, function));
-    }
-
-    private ObservableList<Person> transform(ObservableList<Person> observableList,
-            Function<Person, Person> function) {
-        ArrayList<Person> oldList = new ArrayList<>(observableList);
-        ArrayList<Person> newList = new ArrayList<>(oldList.size());
-        for (Person p : oldList) {
-            newList.add(function.apply(p));
-        }
-        ObservableList<Person> newObservableList = FXCollections.observableArrayList(newList);
-        return newObservableList;
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        filterIndicesThenTransformPersonList(Collections.emptyList(), function);
     }
 
     @Override
     public void filterIndicesThenTransformPersonList(List<Index> indices, Function<Person, Person> function) {
-        UnaryOperator<Person> newOperator = x -> {
-            if (!indices.contains(Index.fromZeroBased(transformedPersons.indexOf(x)))) {
-                return function.apply(x);
-            } else {
-                return x;
+        requireAllNonNull(indices, function);
+        List<Person> persons = addressBook.getPersonList();
+        // persons that are not shown are excluded as well as those at the given indices
+        BitSet excludedPositions = new BitSet(persons.size());
+        Predicate<? super Person> predicate = personsView.getPredicate();
+        for (int i = 0; predicate != null && i < persons.size(); i++) {
+            excludedPositions.set(i, !predicate.test(persons.get(i)));
+        }
+        for (Index index : indices) {
+            excludedPositions.set(addressBook.indexOf(personsView.get(index.getZeroBased())));
+        }
+
+        Map<Person, Person> replacedPersons = addressBook.transformPersons(function::apply, excludedPositions);
+        Map<PersonId, Person> transformedPersons = new HashMap<>();
+        replacedPersons.forEach((previousPerson, transformedPerson) -> {
+            personSearchIndex.remove(previousPerson);
+            personSearchIndex.add(transformedPerson);
+            if (selectedPerson != null && previousPerson.equals(selectedPerson)) {
+                selectedPerson = transformedPerson;
             }
-        };
-        transformedPersons.replaceAll(newOperator);
+            transformedPersons.put(transformedPerson.getId(), transformedPerson);
+        });
+        lessonBook.replacePersons(transformedPersons);
     }
 
     //=========== Lesson Day Accessors =============================================================
 
     @Override
-    public void updateFilteredDailyLessonList(FilteredList<Lesson> lessons, Predicate<Lesson> predicate,
-                                              ObservableList<Lesson> transformedList) throws NullPointerException {
-        requireNonNull(predicate);
-        Comparator<Lesson> comparator = new LessonTimeComparator();
-        lessons.setPredicate(predicate);
-        SortedList<Lesson> sortedDayList = lessons.sorted(comparator);
-        transformedList.setAll(sortedDayList);
+    public ObservableList<Lesson> getLessonsForDay(Day day) {
+        requireNonNull(day);
+        return dailyLessonsViews.get(day);
     }
 
-
     @Override
     public ObservableList<Lesson> getMondayLesson() {
-        updateFilteredDailyLessonList(mondayLessons, new LessonDayPredicate("monday"),
-            transformedMondayList);
-        return transformedMondayList;
+        return getLessonsForDay(Day.of("monday"));
     }
 
     @Override
     public ObservableList<Lesson> getTuesdayLesson() {
-        updateFilteredDailyLessonList(tuesdayLessons, new LessonDayPredicate("tuesday"),
-            transformedTuesdayList);
-        return transformedTuesdayList;
+        return getLessonsForDay(Day.of("tuesday"));
     }
 
     @Override
     public ObservableList<Lesson> getWednesdayLesson() {
-        updateFilteredDailyLessonList(wednesdayLessons, new LessonDayPredicate("wednesday"),
-            transformedWednesdayList);
-        return transformedWednesdayList;
+        return getLessonsForDay(Day.of("wednesday"));
     }
 
     @Override
     public ObservableList<Lesson> getThursdayLesson() {
-        updateFilteredDailyLessonList(thursdayLessons, new LessonDayPredicate("thursday"),
-            transformedThursdayList);
-        return transformedThursdayList;
+        return getLessonsForDay(Day.of("thursday"));
     }
 
     @Override
     public ObservableList<Lesson> getFridayLesson() {
-        updateFilteredDailyLessonList(fridayLessons, new LessonDayPredicate("friday"),
-            transformedFridayList);
-        return transformedFridayList;
+        return getLessonsForDay(Day.of("friday"));
     }
 
     @Override
     public ObservableList<Lesson> getSaturdayLesson() {
-        updateFilteredDailyLessonList(saturdayLessons, new LessonDayPredicate("saturday"),
-            transformedSaturdayList);
-        return transformedSaturdayList;
+        return getLessonsForDay(Day.of("saturday"));
     }
 
     @Override
     public ObservableList<Lesson> getSundayLesson() {
-        updateFilteredDailyLessonList(sundayLessons, new LessonDayPredicate("sunday"),
-            transformedSundayList);
-        return transformedSundayList;
+        return getLessonsForDay(Day.of("sunday"));
     }
+
     //=========== DatesBook ================================================================================
 
     @Override
@@ -532,101 +465,79 @@ public class ModelManager implements Model {
         updateFilteredImportantDatesList(predicate);
     }
 
-    //=========== Filtered Important Dates List Accessors =============================================================
+    //=========== Important Dates List View Accessors =========================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code ImportantDate}
+     * Returns an unmodifiable view of the list of {@code ImportantDate} shown to the user
      */
     @Override
     public ObservableList<ImportantDate> getFilteredImportantDatesList() {
-        return filteredImportantDates;
+        return importantDatesView;
     }
 
     @Override
     public void updateFilteredImportantDatesList(Predicate<ImportantDate> predicate) {
         requireNonNull(predicate);
-        filteredImportantDates.setPredicate(predicate);
-        transformedImportantDates.setAll(filteredImportantDates);
+        importantDatesView.setComparator(null);
+        importantDatesView.setPredicate(predicate);
     }
 
-    //=========== Sorted Important Dates List Accessors =============================================================
-    /**
-     * Returns an unmodifiable view of the sorted list of {@code ImportantDate}
-     */
     @Override
     public ObservableList<ImportantDate> getSortedImportantDatesList() {
-        return sortedImportantDates;
+        return importantDatesView;
     }
 
     @Override
     public void updateSortedImportantDatesList(Comparator<ImportantDate> comparator) throws NullPointerException {
         requireNonNull(comparator);
-        sortedImportantDates.setComparator(comparator);
-        transformedImportantDates.setAll(sortedImportantDates);
+        importantDatesView.setPredicate(PREDICATE_SHOW_ALL_IMPORTANT_DATES);
+        importantDatesView.setComparator(comparator);
     }
 
-    //=========== Transformed Important Dates List Accessors ========================================================
-
     @Override
     public ObservableList<ImportantDate> getTransformedImportantDatesList() {
-        return transformedImportantDates;
+        return importantDatesView;
     }
 
-    //=========== Filtered Lesson List Accessors =============================================================
+    //=========== Lesson List View Accessors ==============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Lesson} backed by the internal list of
-     * {@code versionedAddressBook}
+     * Returns an unmodifiable view of the list of {@code Lesson} shown to the user, backed by the internal list of
+     * {@code lessonBook}
      */
     @Override
     public ObservableList<Lesson> getFilteredLessonList() {
-        return filteredLessons;
+        return lessonsView;
     }
 
     @Override
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
-        filteredLessons.setPredicate(predicate);
-        transformedLessons.setAll(filteredLessons);
+        lessonsView.setComparator(null);
+        lessonsView.setPredicate(predicate);
     }
 
-    //=========== Sorted Lesson List Accessors =============================================================
-    /**
-     * Returns an unmodifiable view of the sorted list of {@code Lesson}
-     */
     @Override
     public ObservableList<Lesson> getSortedLessonList() {
-        return sortedLessons;
+        return lessonsView;
     }
 
     @Override
     public void updateSortedLessonList(Comparator<Lesson> comparator) throws NullPointerException {
         requireNonNull(comparator);
-        sortedLessons.setComparator(comparator);
-        transformedLessons.setAll(sortedLessons);
+        lessonsView.setPredicate(PREDICATE_SHOW_ALL_LESSONS);
+        lessonsView.setComparator(comparator);
     }
 
-    //=========== Transformed Lesson List Accessors ========================================================
-
     @Override
     public ObservableList<Lesson> getTransformedLessonList() {
-        return transformedLessons;
-    }
-
-    @Override
-    public ObservableList<Lesson> getTransformedLessonListForPerson() {
-        return transformedLessonsForPerson;
+        return lessonsView;
     }
 
     @Override
-    public void filterThenSortLessonList(Predicate<Lesson> predicate, Comparator<Lesson> comparator)
-            throws NullPointerException {
-        requireNonNull(comparator);
-        filteredLessons.setPredicate(predicate);
-        transformedLessonsForPerson.setAll(filteredLessons);
-        SortedList<Lesson> newSortedLessons = transformedLessonsForPerson.sorted(comparator);
-        newSortedLessons.setComparator(comparator);
-        transformedLessonsForPerson.setAll(newSortedLessons);
+    public ObservableList<Lesson> getLessonListForPerson(Person person) {
+        requireNonNull(person);
+        return personLessonIndex.getLessons(person);
     }
 
     @Override
@@ -647,9 +558,9 @@ public class ModelManager implements Model {
             && userPrefs.equals(other.userPrefs)
             && datesBook.equals(other.datesBook)
             && lessonBook.equals(other.lessonBook)
-            && filteredPersons.equals(other.filteredPersons)
-            && filteredLessons.equals(other.filteredLessons)
-            && filteredImportantDates.equals(other.filteredImportantDates);
+            && personsView.equals(other.personsView)
+            && lessonsView.equals(other.lessonsView)
+            && importantDatesView.equals(other.importantDatesView);
     }
 
 }
@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.ChangeLog;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +18,25 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes whenever the persons in this book are modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns a mark of the current state of the persons, or an empty {@code Optional} if the changes made to them
+     * are not recorded.
+     */
+    default Optional<ChangeLog.Mark> getChangeMark() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the persons added, replaced or removed since the state marked by {@code mark}, or an empty
+     * {@code Optional} if those changes are not known.
+     */
+    default Optional<List<ChangeLog.Change<Person>>> getChangesSince(ChangeLog.Mark mark) {
+        return Optional.empty();
+    }
+
 }
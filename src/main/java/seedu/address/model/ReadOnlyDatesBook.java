@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.date.ImportantDate;
+import seedu.address.model.util.ChangeLog;
 
 /**
  * Unmodifiable view of a dates book
@@ -15,4 +19,25 @@ public interface ReadOnlyDatesBook {
      */
     ObservableList<ImportantDate> getImportantDatesList();
 
+    /**
+     * Returns a number that changes whenever the important dates in this book are modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns a mark of the current state of the important dates, or an empty {@code Optional} if the changes made
+     * to them are not recorded.
+     */
+    default Optional<ChangeLog.Mark> getChangeMark() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the important dates added, replaced or removed since the state marked by {@code mark}, or an empty
+     * {@code Optional} if those changes are not known.
+     */
+    default Optional<List<ChangeLog.Change<ImportantDate>>> getChangesSince(ChangeLog.Mark mark) {
+        return Optional.empty();
+    }
+
 }
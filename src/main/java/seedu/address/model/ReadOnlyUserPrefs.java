@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -17,4 +18,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getLessonBookFilePath();
 
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns true if the changes made to the books are appended to journals instead of rewriting their files.
+     */
+    boolean isJournaling();
+
 }
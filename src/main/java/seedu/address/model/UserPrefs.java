@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -17,6 +18,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path datesBookFilePath = Paths.get("data", "datesbook.json");
     private Path lessonBookFilePath = Paths.get("data", "lessonbook.json");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private boolean journaling = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +43,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setDatesBookFilePath(newUserPrefs.getDatesBookFilePath());
         setLessonBookFilePath(newUserPrefs.getLessonBookFilePath());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setJournaling(newUserPrefs.isJournaling());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +83,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.lessonBookFilePath = lessonBookFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public boolean isJournaling() {
+        return journaling;
+    }
+
+    public void setJournaling(boolean journaling) {
+        this.journaling = journaling;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +114,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && addressBookFilePath.equals(o.addressBookFilePath)
                 && datesBookFilePath.equals(o.datesBookFilePath)
-                && lessonBookFilePath.equals(o.lessonBookFilePath);
+                && lessonBookFilePath.equals(o.lessonBookFilePath)
+                && dataFileFormat.equals(o.dataFileFormat)
+                && journaling == o.journaling;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, datesBookFilePath, lessonBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, datesBookFilePath, lessonBookFilePath,
+                dataFileFormat, journaling);
     }
 
     @Override
@@ -107,6 +132,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal data file location for contacts: " + addressBookFilePath);
         sb.append("\nLocal data file location for dates: " + datesBookFilePath);
         sb.append("\nLocal data file location for lessons: " + lessonBookFilePath);
+        sb.append("\nData file format: " + dataFileFormat);
+        sb.append("\nJournaling: " + journaling);
         return sb.toString();
     }
 
@@ -47,6 +47,6 @@ public class Description {
 
     @Override
     public int hashCode() {
-        return description.hashCode();
+        return description.toLowerCase().hashCode();
     }
 }
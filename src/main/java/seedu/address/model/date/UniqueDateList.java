@@ -3,8 +3,12 @@ package seedu.address.model.date;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -54,8 +58,9 @@ public class UniqueDateList implements Iterable<ImportantDate> {
      */
     public void setImportantDates(List<ImportantDate> importantDates) {
         requireAllNonNull(importantDates);
-        if (!importantDatesAreUnique(importantDates)) {
-            throw new DuplicateImportantDateException();
+        List<Description> duplicateDescriptions = getDuplicateDescriptions(importantDates);
+        if (!duplicateDescriptions.isEmpty()) {
+            throw new DuplicateImportantDateException(duplicateDescriptions);
         }
 
         internalList.setAll(importantDates);
@@ -86,17 +91,18 @@ public class UniqueDateList implements Iterable<ImportantDate> {
     }
 
     /**
-     * Returns true if {@code importantDates} contains only unique important dates (all dates have different
+     * Returns the descriptions shared by more than one important date in {@code importantDates}.
+     * The list is empty if {@code importantDates} contains only unique important dates (all dates have different
      * descriptions).
      */
-    private boolean importantDatesAreUnique(List<ImportantDate> importantDates) {
-        for (int i = 0; i < importantDates.size() - 1; i++) {
-            for (int j = i + 1; j < importantDates.size(); j++) {
-                if (importantDates.get(i).isSameImportantDate(importantDates.get(j))) {
-                    return false;
-                }
+    private static List<Description> getDuplicateDescriptions(List<ImportantDate> importantDates) {
+        Set<Description> seenDescriptions = new HashSet<>();
+        Set<Description> duplicateDescriptions = new LinkedHashSet<>();
+        for (ImportantDate importantDate : importantDates) {
+            if (!seenDescriptions.add(importantDate.getDescription())) {
+                duplicateDescriptions.add(importantDate.getDescription());
             }
         }
-        return true;
+        return new ArrayList<>(duplicateDescriptions);
     }
 }
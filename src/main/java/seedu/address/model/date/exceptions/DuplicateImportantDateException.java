@@ -1,5 +1,10 @@
 package seedu.address.model.date.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.date.Description;
+
 /**
  * Signals that the operation will result in duplicate ImportantDates (ImportantDates are considered duplicates if they
  * have the same description).
@@ -8,4 +13,9 @@ public class DuplicateImportantDateException extends RuntimeException {
     public DuplicateImportantDateException() {
         super("Operation would result in duplicate important dates");
     }
+
+    public DuplicateImportantDateException(List<Description> duplicateDescriptions) {
+        super("Operation would result in duplicate important dates: "
+                + duplicateDescriptions.stream().map(Description::toString).collect(Collectors.joining(", ")));
+    }
 }
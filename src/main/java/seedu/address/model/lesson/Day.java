@@ -3,14 +3,31 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 public class Day implements Comparable<Day> {
 
     public static final String VALIDATION_REGEX = "(monday|tuesday|wednesday|thursday|friday|saturday|sunday)";
     public static final String MESSAGE_CONSTRAINTS = "Days should take on one of the following: "
         + "monday, tuesday, wednesday, thursday, friday, saturday, sunday. ";
 
+    private static final String[] DAY_NAMES =
+        {"monday", "tuesday", "wednesday", "thursday", "friday", "saturday", "sunday"};
+    private static final Day[] CANONICAL_DAYS = new Day[DAY_NAMES.length];
+
     public final String dayOfTuition;
 
+    // 0 for monday to 6 for sunday, computed once so that comparisons do not go through the day names
+    private final int dayOfWeek;
+
+    static {
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            CANONICAL_DAYS[i] = new Day(DAY_NAMES[i]);
+        }
+    }
+
     /**
      * Constructs a {@code Day}.
      *
@@ -20,6 +37,26 @@ public class Day implements Comparable<Day> {
         requireNonNull(dayOfTuition);
         checkArgument(isValidDay(dayOfTuition), MESSAGE_CONSTRAINTS);
         this.dayOfTuition = dayOfTuition.toLowerCase();
+        this.dayOfWeek = dayToInt(this.dayOfTuition) - 1;
+    }
+
+    /**
+     * Returns the shared {@code Day} for {@code dayOfTuition}, so that lessons on the same day do not hold copies
+     * of it.
+     *
+     * @param dayOfTuition A valid day.
+     */
+    public static Day of(String dayOfTuition) {
+        requireNonNull(dayOfTuition);
+        checkArgument(isValidDay(dayOfTuition), MESSAGE_CONSTRAINTS);
+        return CANONICAL_DAYS[dayToInt(dayOfTuition.toLowerCase()) - 1];
+    }
+
+    /**
+     * Returns the shared {@code Day}s of the week, from monday to sunday.
+     */
+    public static List<Day> getDaysOfWeek() {
+        return Collections.unmodifiableList(Arrays.asList(CANONICAL_DAYS));
     }
 
     /**
@@ -29,7 +66,7 @@ public class Day implements Comparable<Day> {
         return test.toLowerCase().matches(VALIDATION_REGEX);
     }
 
-    int dayToInt(String day) {
+    private static int dayToInt(String day) {
         int value = 0;
 
         switch (day) {
@@ -70,17 +107,16 @@ public class Day implements Comparable<Day> {
         return value;
     }
 
+    /**
+     * Returns the position of the day in the week, from 0 for monday to 6 for sunday.
+     */
+    int getDayOfWeek() {
+        return dayOfWeek;
+    }
+
     @Override
     public int compareTo(Day other) {
-        int thisValue = dayToInt(dayOfTuition);
-        int otherValue = dayToInt(other.dayOfTuition);
-        if (thisValue < otherValue) {
-            return -1;
-        } else if (thisValue > otherValue) {
-            return 1;
-        } else {
-            return 0;
-        }
+        return Integer.compare(dayOfWeek, other.dayOfWeek);
     }
 
     @Override
@@ -92,12 +128,12 @@ public class Day implements Comparable<Day> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Day // instanceof handles nulls
-                && dayOfTuition.equals(((Day) other).dayOfTuition)); // state check
+                && dayOfWeek == ((Day) other).dayOfWeek); // state check
     }
 
     @Override
     public int hashCode() {
-        return dayOfTuition.hashCode();
+        return dayOfWeek;
     }
 
 }
@@ -3,13 +3,15 @@ package seedu.address.model.lesson;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 public class Lesson implements Comparable<Lesson> {
 
@@ -22,7 +24,12 @@ public class Lesson implements Comparable<Lesson> {
     public final Day day;
     public final Time time;
 
-    private final Set<Person> persons = new HashSet<>();
+    // Computed once from the day and time, and used for all comparisons between lessons
+    private final int minuteOfWeek;
+
+    // Keyed by id so that membership checks do not hash the whole person
+    private final Map<PersonId, Person> persons = new HashMap<>();
+    private final Collection<Person> unmodifiablePersons = Collections.unmodifiableCollection(persons.values());
 
     /**
      * Constructs a {@code Lesson}.
@@ -33,8 +40,9 @@ public class Lesson implements Comparable<Lesson> {
         requireAllNonNull(lesson);
         String[] details = getDetails(lesson);
         checkArgument(isValidLesson(details), MESSAGE_CONSTRAINTS);
-        this.day = new Day(details[INDEX_OF_DAY]);
-        this.time = new Time(details[INDEX_OF_TIME]);
+        this.day = Day.of(details[INDEX_OF_DAY]);
+        this.time = Time.of(details[INDEX_OF_TIME]);
+        this.minuteOfWeek = day.getDayOfWeek() * Time.MINUTES_PER_DAY + time.getMinuteOfDay();
     }
 
     /**
@@ -45,7 +53,13 @@ public class Lesson implements Comparable<Lesson> {
     public Lesson(String lesson, Set<Person> persons) {
         this(lesson);
         requireAllNonNull(persons);
-        this.persons.addAll(persons);
+        persons.forEach(this::addPerson);
+    }
+
+    private Lesson(Day day, Time time, int minuteOfWeek) {
+        this.day = day;
+        this.time = time;
+        this.minuteOfWeek = minuteOfWeek;
     }
 
     public Day getDay() {
@@ -56,14 +70,18 @@ public class Lesson implements Comparable<Lesson> {
         return day.toString();
     }
 
-    public Set<Person> getPersonSet() {
-        return this.persons;
-    }
-
     public Time getTime() {
         return time;
     }
 
+    /**
+     * Returns the number of minutes from the start of monday to the start of the lesson.
+     * Two lessons have the same minute of the week if and only if they are the same lesson.
+     */
+    int getMinuteOfWeek() {
+        return minuteOfWeek;
+    }
+
     public String getTimeInString() {
         return time.timeOfTuition;
     }
@@ -77,49 +95,71 @@ public class Lesson implements Comparable<Lesson> {
     }
 
     /**
-     * Adds a person to the lesson.
+     * Adds a person to the lesson, unless a person with the same id is already in the lesson.
      *
      * @param person person to be added.
      */
     public void addPerson(Person person) {
-        if (!containsPerson(person)) {
-            persons.add(person);
-        }
+        persons.putIfAbsent(person.getId(), person);
     }
 
     /**
-     * Removes a person from the lesson.
+     * Removes the person with the same id as {@code person} from the lesson.
      *
      * @param person person to be removed.
      */
     public void removePerson(Person person) {
-        if (containsPerson(person)) {
-            persons.remove(person);
+        persons.remove(person.getId());
+    }
+
+    /**
+     * Replaces each person in the lesson whose id is a key of {@code replacements} with the person it maps to.
+     *
+     * @return true if any person in the lesson was replaced.
+     */
+    public boolean replacePersons(Map<PersonId, Person> replacements) {
+        requireAllNonNull(replacements);
+        boolean isReplaced = false;
+        for (Map.Entry<PersonId, Person> entry : persons.entrySet()) {
+            Person replacement = replacements.get(entry.getKey());
+            if (replacement != null && replacement != entry.getValue()) {
+                entry.setValue(replacement);
+                isReplaced = true;
+            }
         }
+        return isReplaced;
     }
 
-    public Set<Person> getPerson() {
-        return Collections.unmodifiableSet(persons);
+    /**
+     * Returns an unmodifiable view of the persons in the lesson, which reflects later changes to the lesson.
+     */
+    public Collection<Person> getPerson() {
+        return unmodifiablePersons;
     }
 
     public String getPersonInString() {
-        return persons.stream().map(person -> person.getName().fullName)
+        return persons.values().stream().map(person -> person.getName().fullName)
                 .collect(Collectors.joining(", "));
     }
 
     /**
-     * Returns true if the lesson already stores the given person.
+     * Returns true if the lesson already stores a person with the same id as the given person.
      *
      * @param person Person to be checked if it already exists.
      * @return a boolean value indicating if the lesson already stores the given person.
      */
     public boolean containsPerson(Person person) {
-        for (Person p : persons) {
-            if (p.isSamePerson(person)) {
-                return true;
-            }
-        }
-        return false;
+        return persons.containsKey(person.getId());
+    }
+
+    /**
+     * Returns a copy of {@code source}, whose persons are not affected by later changes to {@code source}.
+     */
+    public static Lesson copyOf(Lesson source) {
+        requireAllNonNull(source);
+        Lesson copy = new Lesson(source.day, source.time, source.minuteOfWeek);
+        copy.persons.putAll(source.persons);
+        return copy;
     }
 
     /**
@@ -155,25 +195,12 @@ public class Lesson implements Comparable<Lesson> {
         }
 
         return otherLesson != null
-                && otherLesson.getDay().equals(getDay())
-                && otherLesson.getTime().equals(getTime());
+                && otherLesson.minuteOfWeek == minuteOfWeek;
     }
 
     @Override
     public int compareTo(Lesson other) {
-        if (this.day.compareTo(other.day) == -1) {
-            return -1;
-        } else if (this.day.compareTo(other.day) == 1) {
-            return 1;
-        } else {
-            if (this.time.compareTo(other.time) == -1) {
-                return -1;
-            } else if (this.time.compareTo(other.time) == 1) {
-                return 1;
-            } else {
-                return 0;
-            }
-        }
+        return Integer.compare(minuteOfWeek, other.minuteOfWeek);
     }
 
     @Override
@@ -187,14 +214,12 @@ public class Lesson implements Comparable<Lesson> {
         }
 
         Lesson otherLesson = (Lesson) other;
-        return otherLesson.getDay().equals(getDay())
-                && otherLesson.getTime().equals(getTime());
+        return otherLesson.minuteOfWeek == minuteOfWeek;
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(day, time);
+        return minuteOfWeek;
     }
 
     @Override
@@ -0,0 +1,126 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * An index from the ids of persons to the lessons they attend, each ordered by day and time, so that the lessons of
+ * a person can be found without testing every lesson.
+ * The list of lessons of a person is kept until the person is deleted, or the index is replaced while the person
+ * attends no lessons, so that a view bound to it sees the lessons the person is added to later.
+ */
+public class PersonLessonIndex {
+
+    private final Map<PersonId, ObservableList<Lesson>> lessonsByPerson = new HashMap<>();
+    private final Map<PersonId, ObservableList<Lesson>> unmodifiableLessonsByPerson = new HashMap<>();
+
+    /**
+     * Replaces the contents of the index with the persons of {@code lessons}.
+     */
+    public void setLessons(List<Lesson> lessons) {
+        requireNonNull(lessons);
+        lessonsByPerson.values().forEach(List::clear);
+        for (Lesson lesson : lessons) {
+            addLesson(lesson);
+        }
+        lessonsByPerson.values().removeIf(List::isEmpty);
+        unmodifiableLessonsByPerson.keySet().retainAll(lessonsByPerson.keySet());
+    }
+
+    /**
+     * Adds {@code lesson} to the lessons of each of its persons.
+     */
+    public void addLesson(Lesson lesson) {
+        requireNonNull(lesson);
+        for (Person person : lesson.getPerson()) {
+            add(person, lesson);
+        }
+    }
+
+    /**
+     * Removes {@code lesson} from the lessons of each of its persons.
+     */
+    public void removeLesson(Lesson lesson) {
+        requireNonNull(lesson);
+        for (Person person : lesson.getPerson()) {
+            remove(person, lesson);
+        }
+    }
+
+    /**
+     * Adds {@code lesson} to the lessons of {@code person}, replacing the lesson at the same day and time if there
+     * is one.
+     */
+    public void add(Person person, Lesson lesson) {
+        requireAllNonNull(person, lesson);
+        List<Lesson> lessons = getModifiableLessons(person.getId());
+        int index = Collections.binarySearch(lessons, lesson);
+        if (index < 0) {
+            lessons.add(-index - 1, lesson);
+        } else if (lessons.get(index) != lesson) {
+            lessons.set(index, lesson);
+        }
+    }
+
+    /**
+     * Removes the lesson at the same day and time as {@code lesson} from the lessons of {@code person}, if there is
+     * one.
+     */
+    public void remove(Person person, Lesson lesson) {
+        requireAllNonNull(person, lesson);
+        List<Lesson> lessons = lessonsByPerson.get(person.getId());
+        int index = lessons == null ? -1 : Collections.binarySearch(lessons, lesson);
+        if (index >= 0) {
+            lessons.remove(index);
+        }
+    }
+
+    /**
+     * Forgets the lessons of {@code person}, who has been deleted, if the person no longer attends any.
+     */
+    public void removePerson(Person person) {
+        requireNonNull(person);
+        List<Lesson> lessons = lessonsByPerson.get(person.getId());
+        if (lessons != null && lessons.isEmpty()) {
+            lessonsByPerson.remove(person.getId());
+            unmodifiableLessonsByPerson.remove(person.getId());
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the lessons of {@code person}, ordered by day and time, which is updated as the
+     * person is added to or removed from lessons.
+     * If the index holds no lessons for {@code person}, an empty list is returned instead, without adding the person
+     * to the index.
+     */
+    public ObservableList<Lesson> getLessons(Person person) {
+        requireNonNull(person);
+        ObservableList<Lesson> lessons = unmodifiableLessonsByPerson.get(person.getId());
+        return lessons == null ? FXCollections.emptyObservableList() : lessons;
+    }
+
+    /**
+     * Returns the number of persons whose lessons are held in the index.
+     */
+    public int size() {
+        return lessonsByPerson.size();
+    }
+
+    private ObservableList<Lesson> getModifiableLessons(PersonId id) {
+        return lessonsByPerson.computeIfAbsent(id, unused -> {
+            ObservableList<Lesson> lessons = FXCollections.observableArrayList();
+            unmodifiableLessonsByPerson.put(id, FXCollections.unmodifiableObservableList(lessons));
+            return lessons;
+        });
+    }
+}
@@ -8,8 +8,17 @@ public class Time implements Comparable<Time> {
     public static final String VALIDATION_REGEX = "^(0[0-9]|1[0-9]|2[0-3])[0-5][0-9]$";
     public static final String MESSAGE_CONSTRAINTS = "Time should be in HHMM format, from 0000 to 2359";
 
+    public static final int MINUTES_PER_HOUR = 60;
+    public static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    // Filled in as times are first asked for; a race only creates an extra equal instance
+    private static final Time[] CANONICAL_TIMES = new Time[MINUTES_PER_DAY];
+
     public final String timeOfTuition;
 
+    // Computed once so that comparisons do not parse the time string
+    private final int minuteOfDay;
+
     /**
      * Constructs a {@code Time}.
      *
@@ -19,6 +28,27 @@ public class Time implements Comparable<Time> {
         requireNonNull(timeOfTuition);
         checkArgument(isValidTime(timeOfTuition), MESSAGE_CONSTRAINTS);
         this.timeOfTuition = timeOfTuition;
+        int hhmm = Integer.parseInt(timeOfTuition);
+        this.minuteOfDay = hhmm / 100 * MINUTES_PER_HOUR + hhmm % 100;
+    }
+
+    /**
+     * Returns the shared {@code Time} for {@code timeOfTuition}, so that lessons at the same time do not hold copies
+     * of it.
+     *
+     * @param timeOfTuition A valid time.
+     */
+    public static Time of(String timeOfTuition) {
+        requireNonNull(timeOfTuition);
+        checkArgument(isValidTime(timeOfTuition), MESSAGE_CONSTRAINTS);
+        int hhmm = Integer.parseInt(timeOfTuition);
+        int minuteOfDay = hhmm / 100 * MINUTES_PER_HOUR + hhmm % 100;
+        Time time = CANONICAL_TIMES[minuteOfDay];
+        if (time == null) {
+            time = new Time(timeOfTuition);
+            CANONICAL_TIMES[minuteOfDay] = time;
+        }
+        return time;
     }
 
     /**
@@ -28,21 +58,16 @@ public class Time implements Comparable<Time> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the number of minutes from midnight to this time.
+     */
+    int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
     @Override
     public int compareTo(Time other) {
-        int thisTime = Integer.parseInt(timeOfTuition);
-        int otherTime = Integer.parseInt(other.timeOfTuition);
-
-        int result;
-
-        if (thisTime < otherTime) {
-            result = -1;
-        } else if (thisTime > otherTime) {
-            result = 1;
-        } else {
-            result = 0;
-        }
-        return result;
+        return Integer.compare(minuteOfDay, other.minuteOfDay);
     }
 
     @Override
@@ -54,12 +79,12 @@ public class Time implements Comparable<Time> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Time // instanceof handles nulls
-                && timeOfTuition.equals(((Time) other).timeOfTuition)); // state check
+                && minuteOfDay == ((Time) other).minuteOfDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return timeOfTuition.hashCode();
+        return minuteOfDay;
     }
 
 }
@@ -3,14 +3,21 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * A list of lessons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +26,9 @@ import seedu.address.model.person.Person;
  * unique in terms of timing and day in the UniqueLessonList. However, the removal of a lesson uses
  * Lesson#equals(Object) so as to ensure that the lesson with exactly the same fields will be removed.
  *
+ * Lessons are also indexed by their minute of the week so that looking up the lesson of a given slot does not need to
+ * scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +38,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Integer, Lesson> slotIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLesson);
+        return slotIndex.containsKey(toCheck.getMinuteOfWeek());
     }
 
     /**
@@ -47,6 +58,7 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
         internalList.add(toAdd);
+        slotIndex.put(toAdd.getMinuteOfWeek(), toAdd);
     }
 
     /**
@@ -66,15 +78,20 @@ public class UniqueLessonList implements Iterable<Lesson> {
         }
 
         internalList.set(index, editedLesson);
+        slotIndex.remove(target.getMinuteOfWeek());
+        slotIndex.put(editedLesson.getMinuteOfWeek(), editedLesson);
     }
 
+    /**
+     * Returns the lesson in the list with the same day and time as {@code lesson}.
+     */
     public Lesson getLesson(Lesson lesson) throws LessonNotFoundException {
         requireNonNull(lesson);
-        if (contains(lesson)) {
-            int index = internalList.indexOf(lesson);
-            return internalList.get(index);
+        Lesson existingLesson = slotIndex.get(lesson.getMinuteOfWeek());
+        if (existingLesson == null) {
+            throw new LessonNotFoundException();
         }
-        throw new LessonNotFoundException();
+        return existingLesson;
     }
 
     /**
@@ -84,17 +101,17 @@ public class UniqueLessonList implements Iterable<Lesson> {
     public void addPersonToLesson(Person person) {
         requireAllNonNull(person);
         for (Lesson lesson : person.getLessons()) {
-            if (contains(lesson)) {
-                int index = internalList.indexOf(lesson);
-                internalList.get(index).addPerson(person);
+            Lesson existingLesson = slotIndex.get(lesson.getMinuteOfWeek());
+            if (existingLesson != null) {
+                existingLesson.addPerson(person);
+                refresh(existingLesson);
             } else {
                 if (!lesson.containsPerson(person)) {
                     lesson.addPerson(person);
                 }
-                internalList.add(lesson);
+                add(lesson);
             }
         }
-
     }
 
     /**
@@ -103,16 +120,45 @@ public class UniqueLessonList implements Iterable<Lesson> {
     public void removePersonFromLesson(Person person) {
         requireNonNull(person);
         for (Lesson lesson : person.getLessons()) {
-            if (contains(lesson)) {
-                int index = internalList.indexOf(lesson);
-                internalList.get(index).removePerson(person);
-                if (internalList.get(index).isEmptyLesson()) {
-                    remove(internalList.get(index));
+            Lesson existingLesson = slotIndex.get(lesson.getMinuteOfWeek());
+            if (existingLesson != null) {
+                existingLesson.removePerson(person);
+                if (existingLesson.isEmptyLesson()) {
+                    remove(existingLesson);
+                } else {
+                    refresh(existingLesson);
                 }
             }
         }
     }
 
+    /**
+     * Replaces the persons in every lesson of the list whose ids are keys of {@code replacements}, and sets each
+     * affected lesson in the list again so that views of the list see the change.
+     *
+     * @return the affected lessons, in list order.
+     */
+    public List<Lesson> replacePersons(Map<PersonId, Person> replacements) {
+        requireNonNull(replacements);
+        List<Lesson> affectedLessons = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            Lesson lesson = internalList.get(i);
+            if (lesson.replacePersons(replacements)) {
+                internalList.set(i, lesson);
+                affectedLessons.add(lesson);
+            }
+        }
+        return affectedLessons;
+    }
+
+    /**
+     * Sets {@code lesson} in the list again after its persons have been changed in place, so that views of the list
+     * see the change.
+     */
+    private void refresh(Lesson lesson) {
+        internalList.set(internalList.indexOf(lesson), lesson);
+    }
+
     /**
      * Removes the equivalent lesson from the list.
      * The lesson must exist in the list.
@@ -122,11 +168,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
         if (!internalList.remove(toRemove)) {
             throw new LessonNotFoundException();
         }
+        slotIndex.remove(toRemove.getMinuteOfWeek());
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        slotIndex.clear();
+        slotIndex.putAll(replacement.slotIndex);
     }
 
     /**
@@ -135,11 +184,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
+        List<Lesson> duplicateLessons = getDuplicateLessons(lessons);
+        if (!duplicateLessons.isEmpty()) {
+            throw new DuplicateLessonException(duplicateLessons);
         }
 
         internalList.setAll(lessons);
+        slotIndex.clear();
+        lessons.forEach(lesson -> slotIndex.put(lesson.getMinuteOfWeek(), lesson));
     }
 
     /**
@@ -167,16 +219,17 @@ public class UniqueLessonList implements Iterable<Lesson> {
     }
 
     /**
-     * Returns true if {@code lessons} contains only unique lessons.
+     * Returns the lessons in {@code lessons} that share their day and time with an earlier lesson.
+     * The list is empty if {@code lessons} contains only unique lessons.
      */
-    private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
+    private static List<Lesson> getDuplicateLessons(List<Lesson> lessons) {
+        Set<Lesson> seenLessons = new HashSet<>();
+        Set<Lesson> duplicateLessons = new LinkedHashSet<>();
+        for (Lesson lesson : lessons) {
+            if (!seenLessons.add(lesson)) {
+                duplicateLessons.add(lesson);
             }
         }
-        return true;
+        return new ArrayList<>(duplicateLessons);
     }
 }
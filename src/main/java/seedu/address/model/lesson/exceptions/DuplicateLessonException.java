@@ -1,5 +1,10 @@
 package seedu.address.model.lesson.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.lesson.Lesson;
+
 /**
  * Signals that the operation will result in duplicate Lessons (Lessons are considered duplicates if they have the same
  * day and time).
@@ -8,4 +13,9 @@ public class DuplicateLessonException extends RuntimeException {
     public DuplicateLessonException() {
         super("Operation would result in duplicate lessons");
     }
+
+    public DuplicateLessonException(List<Lesson> duplicateLessons) {
+        super("Operation would result in duplicate lessons: "
+                + duplicateLessons.stream().map(Lesson::formatString).collect(Collectors.joining(", ")));
+    }
 }
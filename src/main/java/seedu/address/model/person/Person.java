@@ -18,9 +18,12 @@ import seedu.address.model.subject.Subject;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Each person carries a {@code PersonId} that is kept across edits, which lessons use to track their students.
  */
 public class Person {
 
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -35,15 +38,33 @@ public class Person {
     private final Set<Subject> subjects = new HashSet<>();
     private final Set<Lesson> lessons = new HashSet<>();
 
+    // The subjects as a mask of AvailableSubject bits, for filtering and sorting without going through the set
+    private final int subjectMask;
+
+    // Cached as the fields never change
+    private final int hashCode;
 
     /**
+     * Creates a new person with a newly generated id.
      * Student's name and phone number must be present.
      */
     public Person(Name name, Phone phone, Optional<School> school, Optional<Email> email, Optional<Address> address,
                   Optional<Name> guardianName, Optional<Phone> guardianPhone, Optional<Level> level,
                   Set<Subject> subjects, Set<Lesson> lessons) {
-        requireAllNonNull(name, phone, school, email, address, guardianName,
+        this(PersonId.generate(), name, phone, school, email, address, guardianName, guardianPhone, level, subjects,
+                lessons);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, such as an existing person with updated details.
+     * Student's name and phone number must be present.
+     */
+    public Person(PersonId id, Name name, Phone phone, Optional<School> school, Optional<Email> email,
+                  Optional<Address> address, Optional<Name> guardianName, Optional<Phone> guardianPhone,
+                  Optional<Level> level, Set<Subject> subjects, Set<Lesson> lessons) {
+        requireAllNonNull(id, name, phone, school, email, address, guardianName,
                 guardianPhone, level, subjects, lessons);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.school = school;
@@ -54,6 +75,13 @@ public class Person {
         this.level = level;
         this.subjects.addAll(subjects);
         this.lessons.addAll(lessons);
+        this.subjectMask = Subject.toMask(subjects);
+        this.hashCode = Objects.hash(name, phone, school, email, address, guardianName, guardianPhone,
+                this.subjects, this.lessons);
+    }
+
+    public PersonId getId() {
+        return id;
     }
 
     public Name getName() {
@@ -96,6 +124,13 @@ public class Person {
         return Collections.unmodifiableSet(subjects);
     }
 
+    /**
+     * Returns the subjects of the person as a mask of {@code AvailableSubject#getBit()} bits.
+     */
+    public int getSubjectMask() {
+        return subjectMask;
+    }
+
     public Set<Lesson> getLessons() {
         return Collections.unmodifiableSet(lessons);
     }
@@ -153,7 +188,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return otherPerson.getName().equals(getName())
+        return otherPerson.hashCode == hashCode
+                && otherPerson.getName().equals(getName())
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getSchool().equals(getSchool())
                 && otherPerson.getEmail().equals(getEmail())
@@ -166,8 +202,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, school, email, address, guardianName, guardianPhone, subjects, lessons);
+        return hashCode;
     }
 
     @Override
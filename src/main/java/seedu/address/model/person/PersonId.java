@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the stable identifier of a Person, assigned when the person is first created and kept across edits.
+ * Guarantees: immutable; unique among the persons created in or loaded into the app.
+ */
+public class PersonId {
+
+    public static final String MESSAGE_INVALID_POSITION = "Position of a person in a file cannot be negative.";
+
+    private static final AtomicLong lastGeneratedId = new AtomicLong();
+
+    public final long value;
+
+    private PersonId(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a new id that has not been given to any other person.
+     */
+    public static PersonId generate() {
+        return new PersonId(lastGeneratedId.incrementAndGet());
+    }
+
+    /**
+     * Returns the id with the given stored {@code value}.
+     * Ids generated afterwards will not clash with it.
+     */
+    public static PersonId of(long value) {
+        lastGeneratedId.accumulateAndGet(value, Math::max);
+        return new PersonId(value);
+    }
+
+    /**
+     * Returns the id of the person at {@code position} in a file that was saved before ids were stored.
+     * Such ids are negative so that they never clash with generated ones, and are the same each time the same file
+     * is read.
+     */
+    public static PersonId ofPosition(int position) {
+        checkArgument(position >= 0, MESSAGE_INVALID_POSITION);
+        return new PersonId(-(long) position - 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonId // instanceof handles nulls
+                && value == ((PersonId) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+}
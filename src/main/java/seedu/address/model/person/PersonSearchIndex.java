@@ -0,0 +1,134 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.subject.AvailableSubject;
+import seedu.address.model.subject.Subject;
+
+/**
+ * An inverted index from the words of persons' names and schools, and from their subjects, to the ids of the persons
+ * having them.
+ * Words are matched ignoring case, and a full word match is required.
+ * The indexed persons are kept by id as well, so that the persons found can be located without a scan.
+ */
+public class PersonSearchIndex {
+
+    private final Map<String, Set<PersonId>> nameIndex = new HashMap<>();
+    private final Map<String, Set<PersonId>> schoolIndex = new HashMap<>();
+    private final Map<AvailableSubject, Set<PersonId>> subjectIndex = new EnumMap<>(AvailableSubject.class);
+    private final Map<PersonId, Person> persons = new HashMap<>();
+
+    /**
+     * Adds the name words, school words and subjects of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        PersonId id = person.getId();
+        persons.put(id, person);
+        for (String word : getWords(person.getName().fullName)) {
+            nameIndex.computeIfAbsent(word, unused -> new HashSet<>()).add(id);
+        }
+        if (person.getSchool().isPresent()) {
+            for (String word : getWords(person.getSchool().get().fullSchoolName)) {
+                schoolIndex.computeIfAbsent(word, unused -> new HashSet<>()).add(id);
+            }
+        }
+        for (Subject subject : person.getSubjects()) {
+            subjectIndex.computeIfAbsent(subject.getAvailableSubject(), unused -> new HashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Removes the name words, school words and subjects of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        PersonId id = person.getId();
+        persons.remove(id);
+        for (String word : getWords(person.getName().fullName)) {
+            removePosting(nameIndex, word, id);
+        }
+        if (person.getSchool().isPresent()) {
+            for (String word : getWords(person.getSchool().get().fullSchoolName)) {
+                removePosting(schoolIndex, word, id);
+            }
+        }
+        for (Subject subject : person.getSubjects()) {
+            removePosting(subjectIndex, subject.getAvailableSubject(), id);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the entries of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        nameIndex.clear();
+        schoolIndex.clear();
+        subjectIndex.clear();
+        this.persons.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed person with {@code id}, or null if there is none.
+     */
+    public Person getPerson(PersonId id) {
+        return persons.get(id);
+    }
+
+    /**
+     * Returns the ids of the persons whose name contains any of {@code nameKeywords}, whose school contains any of
+     * {@code schoolKeywords}, or who take any of {@code subjectKeywords}.
+     * A null list of keywords matches no one.
+     */
+    public Set<PersonId> search(List<String> nameKeywords, List<String> schoolKeywords,
+                                List<Subject> subjectKeywords) {
+        Set<PersonId> result = new HashSet<>();
+        if (nameKeywords != null) {
+            for (String keyword : nameKeywords) {
+                result.addAll(nameIndex.getOrDefault(toToken(keyword), Collections.emptySet()));
+            }
+        }
+        if (schoolKeywords != null) {
+            for (String keyword : schoolKeywords) {
+                result.addAll(schoolIndex.getOrDefault(toToken(keyword), Collections.emptySet()));
+            }
+        }
+        if (subjectKeywords != null) {
+            for (Subject keyword : subjectKeywords) {
+                result.addAll(subjectIndex.getOrDefault(keyword.getAvailableSubject(), Collections.emptySet()));
+            }
+        }
+        return result;
+    }
+
+    private static String[] getWords(String sentence) {
+        return toToken(sentence).split("\\s+");
+    }
+
+    private static String toToken(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> void removePosting(Map<K, Set<PersonId>> index, K key, PersonId id) {
+        Set<PersonId> postings = index.get(key);
+        if (postings == null) {
+            return;
+        }
+        postings.remove(id);
+        if (postings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
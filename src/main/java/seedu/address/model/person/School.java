@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Student's school in TutorsPet.
  * Guarantees: immutable; is valid as declared in {@link #isValidSchool(String)}
@@ -22,6 +25,8 @@ public class School implements Comparable<School> {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Map<String, School> INTERNED_SCHOOLS = new ConcurrentHashMap<>();
+
     public final String fullSchoolName;
 
     /**
@@ -36,6 +41,17 @@ public class School implements Comparable<School> {
         fullSchoolName = schoolName;
     }
 
+    /**
+     * Returns the shared {@code School} named {@code schoolName}, so that students of the same school do not hold
+     * copies of it.
+     *
+     * @param schoolName A valid school.
+     */
+    public static School of(String schoolName) {
+        requireNonNull(schoolName);
+        return INTERNED_SCHOOLS.computeIfAbsent(schoolName, School::new);
+    }
+
     /**
      * Returns true if a given string is within the characters limit
      */
@@ -3,13 +3,24 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.SlotPositions;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +29,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is his/her phone number, a phone to slot index is kept alongside the internal list
+ * so that identity lookups, duplicate checks and removals do not need to scan the whole list. The slots do not move
+ * when a person is removed, so the position of a person is found from its slot rather than renumbering every later
+ * person. A name to phones index is kept as well so that potential duplicates (same name, different phone) can be
+ * found without a scan.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +44,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Integer> phoneSlots = new HashMap<>();
+    private final SlotPositions slotPositions = new SlotPositions();
+    private final Map<Name, Set<Phone>> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneSlots.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -41,7 +61,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean potentialContains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isPotentialSamePerson);
+        Set<Phone> phones = nameIndex.getOrDefault(toCheck.getName(), Collections.emptySet());
+        return phones.size() > 1 || (phones.size() == 1 && !phones.contains(toCheck.getPhone()));
+    }
+
+    /**
+     * Returns the persons in the list with the same name as, but a different phone from, the given argument.
+     */
+    public List<Person> getPotentialPersons(Person toCheck) {
+        requireNonNull(toCheck);
+        List<Person> potentialPersons = new ArrayList<>();
+        for (Phone phone : nameIndex.getOrDefault(toCheck.getName(), Collections.emptySet())) {
+            if (!phone.equals(toCheck.getPhone())) {
+                potentialPersons.add(internalList.get(slotPositions.positionOf(phoneSlots.get(phone))));
+            }
+        }
+        return potentialPersons;
     }
 
     /**
@@ -54,6 +89,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        phoneSlots.put(toAdd.getPhone(), slotPositions.addSlot());
+        addToNameIndex(toAdd);
         internalList.add(toAdd);
     }
 
@@ -65,7 +102,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -74,6 +111,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        phoneSlots.put(editedPerson.getPhone(), phoneSlots.remove(target.getPhone()));
+        removeFromNameIndex(target);
+        addToNameIndex(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -83,14 +123,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        slotPositions.freeSlot(phoneSlots.remove(toRemove.getPhone()));
+        removeFromNameIndex(toRemove);
+        if (slotPositions.getFreedSlotCount() > internalList.size()) {
+            reindex();
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
+        nameIndex.clear();
+        replacement.nameIndex.forEach((name, phones) -> nameIndex.put(name, new HashSet<>(phones)));
     }
 
     /**
@@ -99,11 +150,57 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<Phone> duplicatePhones = getDuplicatePhones(persons);
+        if (!duplicatePhones.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePhones);
         }
 
         internalList.setAll(persons);
+        reindex();
+        nameIndex.clear();
+        internalList.forEach(this::addToNameIndex);
+    }
+
+    /**
+     * Replaces each person in the list, except those at the positions set in {@code excludedPositions}, with the
+     * result of {@code transformation}. Only the persons that {@code transformation} returns a different person for
+     * are replaced, all in a single change to the list.
+     * The transformed persons must not contain duplicate persons. This is only checked if {@code transformation}
+     * changes the phone number of a person, as the persons are otherwise known to be unique.
+     *
+     * @return the persons that were replaced, in list order, each mapped to the person that replaced it.
+     */
+    public Map<Person, Person> transformPersons(UnaryOperator<Person> transformation, BitSet excludedPositions) {
+        requireAllNonNull(transformation, excludedPositions);
+        List<Person> transformedPersons = new ArrayList<>(internalList);
+        Map<Person, Person> replacedPersons = new LinkedHashMap<>();
+        boolean isPhoneChanged = false;
+        for (int i = excludedPositions.nextClearBit(0); i < internalList.size();
+                i = excludedPositions.nextClearBit(i + 1)) {
+            Person person = internalList.get(i);
+            Person transformedPerson = transformation.apply(person);
+            if (transformedPerson != person) {
+                transformedPersons.set(i, transformedPerson);
+                replacedPersons.put(person, transformedPerson);
+                isPhoneChanged |= !transformedPerson.getPhone().equals(person.getPhone());
+            }
+        }
+
+        if (replacedPersons.isEmpty()) {
+            return replacedPersons;
+        }
+        if (isPhoneChanged) {
+            setPersons(transformedPersons);
+            return replacedPersons;
+        }
+
+        // every person keeps their phone and position, so the slots of the persons stay the same
+        replacedPersons.forEach((person, transformedPerson) -> {
+            removeFromNameIndex(person);
+            addToNameIndex(transformedPerson);
+        });
+        internalList.setAll(transformedPersons);
+        return replacedPersons;
     }
 
     /**
@@ -131,16 +228,57 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        Integer slot = phoneSlots.get(person.getPhone());
+        if (slot == null) {
+            return -1;
+        }
+        int index = slotPositions.positionOf(slot);
+        return internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Gives every person in the list a new slot in list order, dropping the slots freed by removals.
+     * This is done when the list is replaced, and once more slots have been freed than are in use, so that it takes
+     * O(1) amortized time per removal.
+     */
+    private void reindex() {
+        phoneSlots.clear();
+        slotPositions.clear();
+        for (Person person : internalList) {
+            phoneSlots.put(person.getPhone(), slotPositions.addSlot());
+        }
+    }
+
+    private void addToNameIndex(Person person) {
+        nameIndex.computeIfAbsent(person.getName(), unused -> new HashSet<>()).add(person.getPhone());
+    }
+
+    private void removeFromNameIndex(Person person) {
+        Set<Phone> phones = nameIndex.get(person.getName());
+        if (phones == null) {
+            return;
+        }
+        phones.remove(person.getPhone());
+        if (phones.isEmpty()) {
+            nameIndex.remove(person.getName());
+        }
+    }
+
+    /**
+     * Returns the phones shared by more than one person in {@code persons}.
+     * The list is empty if {@code persons} contains only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static List<Phone> getDuplicatePhones(List<Person> persons) {
+        Set<Phone> seenPhones = new HashSet<>();
+        Set<Phone> duplicatePhones = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (!seenPhones.add(person.getPhone())) {
+                duplicatePhones.add(person.getPhone());
             }
         }
-        return true;
+        return new ArrayList<>(duplicatePhones);
     }
 }
@@ -1,8 +1,8 @@
 package seedu.address.model.person.comparators;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Set;
 
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
@@ -14,27 +14,19 @@ public class PersonLessonComparator implements Comparator<Person> {
     public PersonLessonComparator(){}
     @Override
     public int compare(Person p1, Person p2) {
+        Set<Lesson> thisLessons = p1.getLessons();
+        Set<Lesson> otherLessons = p2.getLessons();
 
-        ArrayList<Lesson> thisLessonList = new ArrayList<>(p1.getLessons());
-        Collections.sort(thisLessonList);
-        ArrayList<Lesson> otherLessonList = new ArrayList<>(p2.getLessons());
-        Collections.sort(otherLessonList);
-
-        if (thisLessonList.isEmpty() && !otherLessonList.isEmpty()) {
+        if (thisLessons.isEmpty() && !otherLessons.isEmpty()) {
             return 1;
-        } else if (!thisLessonList.isEmpty() && otherLessonList.isEmpty()) {
+        } else if (!thisLessons.isEmpty() && otherLessons.isEmpty()) {
             return -1;
-        } else if (thisLessonList.isEmpty() && otherLessonList.isEmpty()) {
+        } else if (thisLessons.isEmpty() && otherLessons.isEmpty()) {
             return 0;
         }
 
-        Collections.sort(thisLessonList);
-        Collections.sort(otherLessonList);
-
-        Lesson thisLesson = thisLessonList.get(0);
-        Lesson otherLesson = otherLessonList.get(0);
+        Lesson thisLesson = Collections.min(thisLessons);
+        Lesson otherLesson = Collections.min(otherLessons);
         return thisLesson.compareTo(otherLesson);
     }
 }
-
-
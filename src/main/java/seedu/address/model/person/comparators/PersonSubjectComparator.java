@@ -1,37 +1,30 @@
 package seedu.address.model.person.comparators;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 
 import seedu.address.model.person.Person;
-import seedu.address.model.subject.Subject;
 
 /**
- * Compares two {@code Person}s according to the order of their {@code Tag}.
+ * Compares two {@code Person}s according to the order of their {@code Subject}.
  */
 public class PersonSubjectComparator implements Comparator<Person> {
     public PersonSubjectComparator(){}
     @Override
     public int compare(Person p1, Person p2) {
 
-        ArrayList<Subject> thisSubjectList = new ArrayList<>(p1.getSubjects());
-        ArrayList<Subject> otherSubjectList = new ArrayList<>(p2.getSubjects());
+        int thisSubjectMask = p1.getSubjectMask();
+        int otherSubjectMask = p2.getSubjectMask();
 
-        if (thisSubjectList.isEmpty() && !otherSubjectList.isEmpty()) {
+        if (thisSubjectMask == 0 && otherSubjectMask != 0) {
             return 1;
-        } else if (!thisSubjectList.isEmpty() && otherSubjectList.isEmpty()) {
+        } else if (thisSubjectMask != 0 && otherSubjectMask == 0) {
             return -1;
-        } else if (thisSubjectList.isEmpty() && otherSubjectList.isEmpty()) {
+        } else if (thisSubjectMask == 0 && otherSubjectMask == 0) {
             return 0;
         }
 
-        Collections.sort(thisSubjectList);
-        Collections.sort(otherSubjectList);
-
-        Subject thisSubject = thisSubjectList.get(0);
-        Subject otherSubject = otherSubjectList.get(0);
-
-        return thisSubject.compareTo(otherSubject);
+        // The lowest set bit is the person's first subject in alphabetical order
+        return Integer.compare(Integer.numberOfTrailingZeros(thisSubjectMask),
+                Integer.numberOfTrailingZeros(otherSubjectMask));
     }
 }
@@ -1,5 +1,10 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Phone;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +13,9 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    public DuplicatePersonException(List<Phone> duplicatePhones) {
+        super("Operation would result in duplicate persons with phone number(s): "
+                + duplicatePhones.stream().map(Phone::toString).collect(Collectors.joining(", ")));
+    }
 }
@@ -10,20 +10,6 @@ public class PersonLevelUpFunction implements UnaryOperator<Person> {
     }
     @Override
     public Person apply(Person p) {
-        /*
-        Optional<Level> newLevel;
-        if (p.getLevel().isPresent()) {
-            newLevel = Optional.of(Level.levelUp(p.getLevel().get()));
-        } else {
-            newLevel = Optional.empty();
-        }
-        return Level.changeLevel(p, newLevel);
-         */
-        // TODO: change to an immutable implementation; this is a temporary immplementation
-        Person newPerson = Level.clonePerson(p);
-        newPerson.getLevel().ifPresent(x -> x.levelUp());
-        return newPerson;
+        return Level.changeLevel(p, p.getLevel().map(Level::next));
     }
-
-
 }
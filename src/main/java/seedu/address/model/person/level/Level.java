@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.person.level.LevelList.LEVEL_LIST;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -19,6 +21,8 @@ import seedu.address.model.subject.Subject;
 
 /**
  * Represents a Student's education level in TutorsPet.
+ * There is a single shared instance of each level, obtained through {@link #of(String)}, and levels are ordered by
+ * grade.
  * Guarantees: immutable; is valid as declared in {@link #isValidLevel(String)}
  */
 public class Level implements Comparable<Level> {
@@ -26,26 +30,38 @@ public class Level implements Comparable<Level> {
     public static final String MESSAGE_CONSTRAINTS =
             "Level can only be [pri1] to [pri6], [sec1] to [sec4], [jc1] to [jc2] or [grad].";
 
-    private String level;
-    private int levelIndex;
+    private static final String[] FULL_LEVELS = {"Primary 1", "Primary 2", "Primary 3", "Primary 4", "Primary 5",
+        "Primary 6", "Secondary 1", "Secondary 2", "Secondary 3", "Secondary 4", "Secondary 5", "Junior College 1",
+        "Junior College 2", "Graduated"};
+    private static final Level[] CANONICAL_LEVELS = new Level[LEVEL_LIST.size()];
+    private static final Map<String, Level> CANONICAL_LEVELS_BY_NAME = new HashMap<>();
 
+    static {
+        for (int i = 0; i < CANONICAL_LEVELS.length; i++) {
+            CANONICAL_LEVELS[i] = new Level(LEVEL_LIST.get(i), i);
+            CANONICAL_LEVELS_BY_NAME.put(LEVEL_LIST.get(i), CANONICAL_LEVELS[i]);
+        }
+    }
+
+    private final String level;
+    private final int levelIndex;
+
+    private Level(String level, int levelIndex) {
+        this.level = level;
+        this.levelIndex = levelIndex;
+    }
 
     /**
-     * Constructs a {@code Level}.
+     * Returns the shared {@code Level} for {@code level}, so that students of the same level do not hold copies
+     * of it.
      *
      * @param level A valid education level.
      */
-    public Level(String level) {
+    public static Level of(String level) {
         requireNonNull(level);
-        String editedLevel = level.trim().toLowerCase();
-        checkArgument(isValidLevel(editedLevel), MESSAGE_CONSTRAINTS);
-        this.level = editedLevel;
-        this.levelIndex = assignLevelIndex();
-    }
-
-    Level(String level, int index) {
-        this.level = level;
-        this.levelIndex = index;
+        Level canonicalLevel = CANONICAL_LEVELS_BY_NAME.get(level.trim().toLowerCase(Locale.ROOT));
+        checkArgument(canonicalLevel != null, MESSAGE_CONSTRAINTS);
+        return canonicalLevel;
     }
 
     public String getLevel() {
@@ -53,152 +69,42 @@ public class Level implements Comparable<Level> {
     }
 
     public String getFullLevel() {
-        switch (level) {
-
-        case "pri1":
-            return "Primary 1";
-
-        case "pri2":
-            return "Primary 2";
-
-        case "pri3":
-            return "Primary 3";
-
-        case "pri4":
-            return "Primary 4";
-
-        case "pri5":
-            return "Primary 5";
-
-        case "pri6":
-            return "Primary 6";
-
-        case "sec1":
-            return "Secondary 1";
-
-        case "sec2":
-            return "Secondary 2";
-
-        case "sec3":
-            return "Secondary 3";
-
-        case "sec4":
-            return "Secondary 4";
-
-        case "sec5":
-            return "Secondary 5";
-
-        case "jc1":
-            return "Junior College 1";
-
-        case "jc2":
-            return "Junior College 2";
-
-        default:
-            return "Graduated";
-        }
+        return FULL_LEVELS[levelIndex];
     }
 
+    /**
+     * Returns the position of the level in {@link LevelList#LEVEL_LIST}, from 0 for pri1 to 13 for grad.
+     */
     public int getLevelIndex() {
         return levelIndex;
     }
 
     /**
-     * Returns true if a given string is a valid school.
+     * Returns true if a given string is a valid level.
      */
     public static boolean isValidLevel(String test) {
-        // ArrayList<String> levelList = new LevelList().LEVEL_LIST;
-        boolean result = false;
-        for (int i = 0; i < 14; i++) {
-            if (test.toLowerCase(Locale.ROOT).equals(LEVEL_LIST.get(i))) {
-                result = true;
-            }
-        }
-        return result;
-    }
-
-    /**
-     * Returns an {@code Index} that corresponds to the {@level} string input by the
-     * user.
-     */
-    private int assignLevelIndex() {
-        int result = 0;
-        for (int i = 0; i < 12; i++) {
-            if (level.equals(LEVEL_LIST.get(i))) {
-                result = i;
-            }
-        }
-        return result;
-    }
-
-    /**
-     * Alters {@code Level} to reflect a {@code Level} that is one grade higher.
-     */
-    public void levelUp() {
-        int nextIndex;
-        String nextLevel;
-        if (levelIndex < LEVEL_LIST.size() - 1) {
-            nextIndex = levelIndex + 1;
-            nextLevel = LEVEL_LIST.get(nextIndex);
-        } else {
-            // Student graduated
-            nextIndex = 13;
-            nextLevel = LEVEL_LIST.get(nextIndex);
-        }
-        this.level = nextLevel;
-        this.levelIndex = nextIndex;
-        // return new Level(nextLevel, nextIndex);
+        return CANONICAL_LEVELS_BY_NAME.containsKey(test.trim().toLowerCase(Locale.ROOT));
     }
 
     /**
-     * Alters {@code Level} to reflect a {@code Level} that is one grade lower.
+     * Returns the {@code Level} that is one grade higher, or this {@code Level} if the student has graduated.
      */
-    public void levelDown() {
-        int prevIndex;
-        String prevLevel;
-        if (levelIndex != 0) {
-            prevIndex = levelIndex - 1;
-            prevLevel = LEVEL_LIST.get(prevIndex);
-        } else {
-            // Student is already pri1
-            prevIndex = 0;
-            prevLevel = LEVEL_LIST.get(prevIndex);
-        }
-        this.level = prevLevel;
-        this.levelIndex = prevIndex;
-        // return new Level(nextLevel, nextIndex);
+    public Level next() {
+        return levelIndex < CANONICAL_LEVELS.length - 1 ? CANONICAL_LEVELS[levelIndex + 1] : this;
     }
 
     /**
-     * Returns a {@code Person} with all the same attributes as the input
-     * {@code Person}
+     * Returns the {@code Level} that is one grade lower, or this {@code Level} if it is already pri1.
      */
-    public static Person clonePerson (Person person) {
-        Name name = person.getName();
-        Phone phone = person.getPhone();
-        Optional<School> school = person.getSchool();
-        Optional<Email> email = person.getEmail();
-        Optional<Address> address = person.getAddress();
-        Optional<Name> guardianName = person.getGuardianName();
-        Optional<Phone> guardianPhone = person.getGuardianPhone();
-        Optional<Level> level = person.getLevel();
-        Set<Subject> subjects = person.getSubjects();
-        Set<Lesson> lessons = person.getLessons();
-
-        Person newPerson = new Person(name, phone, school, email, address, guardianName, guardianPhone, level,
-                subjects, lessons);
-
-        for (Lesson l : lessons) {
-            l.removePerson(person);
-            l.addPerson(newPerson);
-        }
-
-        return newPerson;
+    public Level previous() {
+        return levelIndex > 0 ? CANONICAL_LEVELS[levelIndex - 1] : this;
     }
 
     /**
      * Returns a {@code Person} with all the same attributes as the input
-     * {@code Person} except for the {@code Level}
+     * {@code Person} except for the {@code Level}.
+     * The lessons of the input {@code Person} are shared with the returned one and left unchanged, so the caller
+     * must replace the input {@code Person} in them.
      */
     public static Person changeLevel(Person person, Optional<Level> newLevel) {
         Name name = person.getName();
@@ -212,15 +118,8 @@ public class Level implements Comparable<Level> {
         Set<Subject> subjects = person.getSubjects();
         Set<Lesson> lessons = person.getLessons();
 
-        Person newPerson = new Person(name, phone, school, email, address, guardianName, guardianPhone, level,
-                subjects, lessons);
-
-        for (Lesson l : lessons) {
-            l.removePerson(person);
-            l.addPerson(newPerson);
-        }
-
-        return newPerson;
+        return new Person(person.getId(), name, phone, school, email, address, guardianName,
+                guardianPhone, level, subjects, lessons);
     }
 
     @Override
@@ -230,21 +129,19 @@ public class Level implements Comparable<Level> {
 
     @Override
     public int compareTo(Level other) {
-        String thisLevel = this.level;
-        String otherLevel = other.level;
-        return thisLevel.compareTo(otherLevel);
+        return Integer.compare(levelIndex, other.levelIndex);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Level // instanceof handles nulls
-                && level.equals(((Level) other).level)); // state check
+                && levelIndex == ((Level) other).levelIndex); // state check
     }
 
     @Override
     public int hashCode() {
-        return level.hashCode();
+        return levelIndex;
     }
 
 }
@@ -1,10 +1,11 @@
 package seedu.address.model.person.level;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 public class LevelList {
-    public static final ArrayList<String> LEVEL_LIST =
-            new ArrayList<>(Arrays.asList("pri1", "pri2", "pri3", "pri4", "pri5",
+    public static final List<String> LEVEL_LIST =
+            Collections.unmodifiableList(Arrays.asList("pri1", "pri2", "pri3", "pri4", "pri5",
                     "pri6", "sec1", "sec2", "sec3", "sec4", "sec5", "jc1", "jc2", "grad"));
 }
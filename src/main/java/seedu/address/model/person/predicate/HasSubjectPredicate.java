@@ -1,10 +1,8 @@
 package seedu.address.model.person.predicate;
 
-import java.util.ArrayList;
 import java.util.function.Predicate;
 
 import seedu.address.model.person.Person;
-import seedu.address.model.subject.Subject;
 
 public class HasSubjectPredicate implements Predicate<Person> {
 
@@ -13,8 +11,7 @@ public class HasSubjectPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        ArrayList<Subject> subjectList = new ArrayList<>(person.getSubjects());
-        return subjectList.isEmpty() ? false : true;
+        return person.getSubjectMask() != 0;
     }
 
     @Override
@@ -18,7 +18,7 @@ public class LessonPersonPredicate implements Predicate<Lesson> {
     @Override
     public boolean test(Lesson lesson) {
         assert this.person != null;
-        return lesson.getPersonSet().contains(person);
+        return lesson.containsPerson(person);
     }
 
     @Override
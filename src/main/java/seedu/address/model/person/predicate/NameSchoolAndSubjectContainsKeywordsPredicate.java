@@ -2,7 +2,6 @@ package seedu.address.model.person.predicate;
 
 import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
@@ -15,6 +14,7 @@ public class NameSchoolAndSubjectContainsKeywordsPredicate implements Predicate<
     private final List<String> nameKeywords;
     private final List<String> schoolKeywords;
     private final List<Subject> subjectKeywords;
+    private final int subjectKeywordMask;
 
     /**
      * Constructor of NameAndSchoolContainsKeywordsPredicate
@@ -28,6 +28,19 @@ public class NameSchoolAndSubjectContainsKeywordsPredicate implements Predicate<
         this.nameKeywords = nameKeywords;
         this.schoolKeywords = schoolKeywords;
         this.subjectKeywords = subjectKeywords;
+        this.subjectKeywordMask = subjectKeywords == null ? 0 : Subject.toMask(subjectKeywords);
+    }
+
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    public List<String> getSchoolKeywords() {
+        return schoolKeywords;
+    }
+
+    public List<Subject> getSubjectKeywords() {
+        return subjectKeywords;
     }
 
     /**
@@ -69,10 +82,7 @@ public class NameSchoolAndSubjectContainsKeywordsPredicate implements Predicate<
         if (person == null) {
             return false;
         }
-        return subjectKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        person.getSubjects().stream().map(subject -> subject.subjectName)
-                                .collect(Collectors.joining(" ")), keyword.subjectName));
+        return (person.getSubjectMask() & subjectKeywordMask) != 0;
     }
 
     @Override
@@ -3,6 +3,7 @@ package seedu.address.model.subject;
 /**
  * Represents a list of subjects available in TutorsPet.
  * Both abbreviated and full name are included for a subject.
+ * The subjects are declared in alphabetical order of their abbreviations, so that their ordinals follow that order.
  */
 public enum AvailableSubject {
     bio("biology"),
@@ -24,6 +25,13 @@ public enum AvailableSubject {
     private AvailableSubject(String full) {
         this.full = full;
     }
+
+    /**
+     * Returns the bit representing this subject in a subject mask.
+     */
+    public int getBit() {
+        return 1 << ordinal();
+    }
     @Override
     public String toString() {
         return full;
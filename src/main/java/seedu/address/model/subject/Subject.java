@@ -3,7 +3,14 @@ package seedu.address.model.subject;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Represents a Subject in TutorsPet.
  * Guarantees: immutable; name is valid as declared in {@link #isValidSubjectName(String)}
@@ -15,7 +22,20 @@ public class Subject implements Comparable<Subject> {
             + " physics, science, tamil]";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Set<String> SUBJECT_NAMES = Arrays.stream(AvailableSubject.values())
+            .map(AvailableSubject::name).collect(Collectors.toSet());
+
+    // One shared instance for each of the AvailableSubject names
+    private static final Map<String, Subject> CANONICAL_SUBJECTS = new HashMap<>();
+
+    static {
+        for (AvailableSubject subject : AvailableSubject.values()) {
+            CANONICAL_SUBJECTS.put(subject.name(), new Subject(subject.name()));
+        }
+    }
+
     public final String subjectName;
+    private final AvailableSubject availableSubject;
 
     /**
      * Constructs a {@code Subject}.
@@ -26,25 +46,47 @@ public class Subject implements Comparable<Subject> {
         requireNonNull(subjectName);
         checkArgument(isValidSubjectName(subjectName.toLowerCase(Locale.ROOT)), MESSAGE_CONSTRAINTS);
         this.subjectName = subjectName;
+        this.availableSubject = AvailableSubject.valueOf(subjectName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the shared {@code Subject} for {@code subjectName} if it is one of the {@code AvailableSubject} names,
+     * so that persons taking the same subject do not hold copies of it.
+     *
+     * @param subjectName A valid subject name.
+     */
+    public static Subject of(String subjectName) {
+        requireNonNull(subjectName);
+        Subject subject = CANONICAL_SUBJECTS.get(subjectName);
+        return subject == null ? new Subject(subjectName) : subject;
     }
 
     /**
      * Returns true if a given string is a valid subject name.
      */
     public static boolean isValidSubjectName(String test) {
-        if (test.matches(VALIDATION_REGEX)) {
-            for (AvailableSubject subject : AvailableSubject.values()) {
-                if (subject.name().equals(test)) {
-                    return true;
-                }
-            }
+        requireNonNull(test);
+        return SUBJECT_NAMES.contains(test);
+    }
+
+    public AvailableSubject getAvailableSubject() {
+        return availableSubject;
+    }
+
+    /**
+     * Returns the mask with the bits of all of {@code subjects} set.
+     */
+    public static int toMask(Collection<Subject> subjects) {
+        int mask = 0;
+        for (Subject subject : subjects) {
+            mask |= subject.availableSubject.getBit();
         }
-        return false;
+        return mask;
     }
 
     @Override
     public int compareTo(Subject other) {
-        return this.subjectName.toLowerCase(Locale.ROOT).compareTo(other.subjectName.toLowerCase(Locale.ROOT));
+        return availableSubject.compareTo(other.availableSubject);
     }
 
     @Override
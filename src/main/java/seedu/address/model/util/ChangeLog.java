@@ -0,0 +1,130 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Records the records of a book that are added, replaced or removed, so that the changes made since an earlier state
+ * of the book can be saved without comparing every record.
+ * Each record is tracked under a key that identifies it in the book, and only its latest change is kept, so the
+ * changes since a mark are found in O(k log n) for k changed keys. Replacing every record of the book is recorded as a
+ * reset, after which the changes since the marks before it are no longer known.
+ */
+public class ChangeLog<K, V> {
+
+    private final Map<K, Long> sequenceByKey = new HashMap<>();
+    private final TreeMap<Long, Change<V>> changesBySequence = new TreeMap<>();
+    private long sequence;
+    private long resetSequence;
+
+    /**
+     * Records that {@code record} has been added to the book, or has replaced the record under {@code key}.
+     */
+    public void recordChange(K key, V record) {
+        record(key, new Change<>(record, false));
+    }
+
+    /**
+     * Records that {@code record}, which was under {@code key}, has been removed from the book.
+     */
+    public void recordRemoval(K key, V record) {
+        record(key, new Change<>(record, true));
+    }
+
+    /**
+     * Records that every record of the book has been replaced, and forgets the changes before.
+     */
+    public void reset() {
+        sequenceByKey.clear();
+        changesBySequence.clear();
+        resetSequence = ++sequence;
+    }
+
+    /**
+     * Returns a mark of the current state of the book.
+     */
+    public Mark getMark() {
+        return new Mark(this, sequence);
+    }
+
+    /**
+     * Returns the latest change of each record changed since {@code mark}, in the order they were last changed, or
+     * an empty {@code Optional} if {@code mark} is from another log or from before the last reset.
+     */
+    public Optional<List<Change<V>>> getChangesSince(Mark mark) {
+        requireNonNull(mark);
+        if (mark.changeLog != this || mark.sequence < resetSequence) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArrayList<>(changesBySequence.tailMap(mark.sequence, false).values()));
+    }
+
+    private void record(K key, Change<V> change) {
+        requireNonNull(key);
+        Long previousSequence = sequenceByKey.put(key, ++sequence);
+        if (previousSequence != null) {
+            changesBySequence.remove(previousSequence);
+        }
+        changesBySequence.put(sequence, change);
+    }
+
+    /**
+     * A record that was added or replaced, or removed.
+     */
+    public static class Change<V> {
+        private final V record;
+        private final boolean isRemoval;
+
+        /**
+         * Creates a change that puts {@code record} in the book, or removes it if {@code isRemoval} is true.
+         */
+        public Change(V record, boolean isRemoval) {
+            requireNonNull(record);
+            this.record = record;
+            this.isRemoval = isRemoval;
+        }
+
+        /**
+         * Returns the record that was put in the book, or the record that was removed.
+         */
+        public V getRecord() {
+            return record;
+        }
+
+        public boolean isRemoval() {
+            return isRemoval;
+        }
+    }
+
+    /**
+     * A state of a book, from which the changes can be asked for later.
+     */
+    public static class Mark {
+        private final ChangeLog<?, ?> changeLog;
+        private final long sequence;
+
+        private Mark(ChangeLog<?, ?> changeLog, long sequence) {
+            this.changeLog = changeLog;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Mark // instanceof handles nulls
+                    && changeLog == ((Mark) other).changeLog
+                    && sequence == ((Mark) other).sequence);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(sequence);
+        }
+    }
+}
@@ -0,0 +1,621 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of a source list, which holds the source elements matching a predicate, in the order given by
+ * a comparator, each mapped by a projection.
+ * Elements that the comparator considers equal, and all elements when there is no comparator, are kept in the order
+ * of the source list.
+ *
+ * The source elements are kept in a tree in source order, and the elements in the view are kept in a second tree
+ * ordered by the comparator and then by source position. Both trees are sized by subtree, and the source tree links
+ * each node to its parent, so that the source position of an element is found in O(log n). Finding the place of an
+ * element in the view compares it with O(log n) others, each by source position if the comparator cannot tell them
+ * apart, so each element added to, removed from or replaced in the source list is applied to the view in
+ * O(log^2 n). It is reported to the listeners of the view as the addition, removal or replacement of that element
+ * only. Replacing the whole source list with one of the same size is applied as the replacement of each element that
+ * is not the same instance as before.
+ * Changing the predicate reports only the elements that start or stop matching it, and changing the comparator
+ * reports a permutation of the elements. A predicate whose matching source positions are already known, such as one
+ * from a search index, is applied by visiting only those positions and the elements in the view.
+ */
+public class IncrementalListView<S, E> extends ObservableListBase<E> {
+
+    private final ObservableList<? extends S> source;
+    private final Function<? super S, ? extends E> projection;
+    private final Random random = new Random();
+
+    private Predicate<? super S> predicate;
+    private Comparator<? super S> comparator;
+    private Entry<S, E> sourceRoot;
+    private Entry<S, E> root;
+
+    /**
+     * Creates a view of every element of {@code source} in source order, each mapped by {@code projection}.
+     */
+    public IncrementalListView(ObservableList<? extends S> source, Function<? super S, ? extends E> projection) {
+        requireAllNonNull(source, projection);
+        this.source = source;
+        this.projection = projection;
+        setSourceEntries(createEntries(source));
+        rebuildTree();
+
+        ListChangeListener<S> listener = this::sourceChanged;
+        source.addListener(listener);
+    }
+
+    public Predicate<? super S> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Keeps only the source elements matching {@code predicate}, or every element if {@code predicate} is null.
+     */
+    public void setPredicate(Predicate<? super S> predicate) {
+        if (predicate == this.predicate) {
+            return;
+        }
+        this.predicate = predicate;
+
+        beginChange();
+        for (Entry<S, E> entry : getSourceEntries()) {
+            boolean isMatching = matches(entry.source);
+            if (isMatching && !entry.isIncluded) {
+                int index = include(entry);
+                nextAdd(index, index + 1);
+            } else if (!isMatching && entry.isIncluded) {
+                int index = exclude(entry);
+                nextRemove(index, entry.element);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Keeps only the source elements matching {@code predicate}, which are those at the source positions set in
+     * {@code matchingPositions}.
+     * Only the elements in the view and the matching elements are visited, which takes O((m + k) log^2 n) for m
+     * elements in the view and k matching elements. If that is more than the size of the source list, every source
+     * element is tested with {@code predicate} instead.
+     */
+    public void setPredicate(Predicate<? super S> predicate, BitSet matchingPositions) {
+        requireAllNonNull(predicate, matchingPositions);
+        if (size() + matchingPositions.cardinality() >= sourceSizeOf(sourceRoot)) {
+            setPredicate(predicate);
+            return;
+        }
+        this.predicate = predicate;
+
+        beginChange();
+        List<Entry<S, E>> includedEntries = new ArrayList<>(size());
+        collectInOrder(root, includedEntries);
+        for (Entry<S, E> entry : includedEntries) {
+            if (!matchingPositions.get(sourceIndexOf(entry))) {
+                int index = exclude(entry);
+                nextRemove(index, entry.element);
+            }
+        }
+        for (int i = matchingPositions.nextSetBit(0); i >= 0; i = matchingPositions.nextSetBit(i + 1)) {
+            Entry<S, E> entry = getSourceEntry(i);
+            if (!entry.isIncluded) {
+                int index = include(entry);
+                nextAdd(index, index + 1);
+            }
+        }
+        endChange();
+    }
+
+    public Comparator<? super S> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Orders the view by {@code comparator}, or in source order if {@code comparator} is null.
+     */
+    public void setComparator(Comparator<? super S> comparator) {
+        if (comparator == this.comparator) {
+            return;
+        }
+        this.comparator = comparator;
+        reorder();
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Entry<S, E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    //=========== Source changes =============================================================================
+
+    private void sourceChanged(ListChangeListener.Change<? extends S> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permuteSource(change);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    updateEntry(getSourceEntry(i), source.get(i));
+                }
+            } else if (change.getFrom() == 0 && change.getRemovedSize() == sourceSizeOf(sourceRoot)
+                    && change.getTo() == source.size()) {
+                replaceAllEntries();
+            } else {
+                int from = change.getFrom();
+                int replacedSize = Math.min(change.getRemovedSize(), change.getAddedSize());
+                for (int i = 0; i < replacedSize; i++) {
+                    updateEntry(getSourceEntry(from + i), source.get(from + i));
+                }
+                for (int i = replacedSize; i < change.getRemovedSize(); i++) {
+                    removeEntry(from + replacedSize);
+                }
+                for (int i = replacedSize; i < change.getAddedSize(); i++) {
+                    insertEntry(from + i, source.get(from + i));
+                }
+            }
+        }
+        endChange();
+    }
+
+    private void insertEntry(int sourceIndex, S element) {
+        Entry<S, E> entry = new Entry<>(element, random.nextInt());
+        sourceRoot = insertSource(sourceRoot, sourceIndex, entry);
+        sourceRoot.sourceParent = null;
+        if (matches(element)) {
+            int index = include(entry);
+            nextAdd(index, index + 1);
+        }
+    }
+
+    private void removeEntry(int sourceIndex) {
+        Entry<S, E> entry = getSourceEntry(sourceIndex);
+        // the entry is taken out of the view first, as its place in the view depends on its source position
+        if (entry.isIncluded) {
+            int index = exclude(entry);
+            nextRemove(index, entry.element);
+        }
+        sourceRoot = removeSource(sourceRoot, sourceIndex);
+        if (sourceRoot != null) {
+            sourceRoot.sourceParent = null;
+        }
+    }
+
+    /**
+     * Replaces the source element of {@code entry} with {@code element}, and moves the entry to its new place in the
+     * view.
+     */
+    private void updateEntry(Entry<S, E> entry, S element) {
+        boolean isSameElement = entry.source == element;
+        boolean wasIncluded = entry.isIncluded;
+        E oldElement = entry.element;
+        int oldIndex = wasIncluded ? exclude(entry) : -1;
+        entry.source = element;
+        if (!matches(element)) {
+            if (wasIncluded) {
+                nextRemove(oldIndex, oldElement);
+            }
+            return;
+        }
+
+        int newIndex = include(entry);
+        if (newIndex == oldIndex && isSameElement) {
+            nextUpdate(newIndex);
+        } else if (newIndex == oldIndex) {
+            nextSet(newIndex, oldElement);
+        } else {
+            if (wasIncluded) {
+                nextRemove(oldIndex, oldElement);
+            }
+            nextAdd(newIndex, newIndex + 1);
+        }
+    }
+
+    /**
+     * Replaces every entry with the elements of the source list, as is done when the whole source list is replaced.
+     * If the source list has the same size as before, only the entries whose element is not the same instance as
+     * before are replaced.
+     */
+    private void replaceAllEntries() {
+        List<Entry<S, E>> entries = getSourceEntries();
+        if (entries.size() == source.size()) {
+            for (int i = 0; i < entries.size(); i++) {
+                if (entries.get(i).source != source.get(i)) {
+                    updateEntry(entries.get(i), source.get(i));
+                }
+            }
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(this);
+        setSourceEntries(createEntries(source));
+        rebuildTree();
+        if (!removed.isEmpty() || size() > 0) {
+            nextReplace(0, size(), removed);
+        }
+    }
+
+    private void permuteSource(ListChangeListener.Change<? extends S> change) {
+        List<Entry<S, E>> entries = getSourceEntries();
+        List<Entry<S, E>> permuted = new ArrayList<>(entries);
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            permuted.set(change.getPermutation(i), entries.get(i));
+        }
+        setSourceEntries(permuted);
+        reorder();
+    }
+
+    /**
+     * Rebuilds the tree after the order of the entries has changed, and reports the change as a permutation.
+     */
+    private void reorder() {
+        List<Entry<S, E>> oldOrder = new ArrayList<>(size());
+        collectInOrder(root, oldOrder);
+        rebuildTree();
+        if (oldOrder.isEmpty()) {
+            return;
+        }
+
+        List<Entry<S, E>> newOrder = new ArrayList<>(size());
+        collectInOrder(root, newOrder);
+        for (int i = 0; i < newOrder.size(); i++) {
+            newOrder.get(i).position = i;
+        }
+        int[] permutation = new int[oldOrder.size()];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = oldOrder.get(i).position;
+        }
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    //=========== Tree ======================================================================================
+
+    private boolean matches(S element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    private int compare(Entry<S, E> first, Entry<S, E> second) {
+        if (comparator != null) {
+            int result = comparator.compare(first.source, second.source);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(sourceIndexOf(first), sourceIndexOf(second));
+    }
+
+    private void rebuildTree() {
+        root = null;
+        for (Entry<S, E> entry : getSourceEntries()) {
+            entry.isIncluded = false;
+            if (matches(entry.source)) {
+                include(entry);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code entry} to the tree and returns its index in the view.
+     */
+    private int include(Entry<S, E> entry) {
+        entry.element = projection.apply(entry.source);
+        entry.isIncluded = true;
+        entry.left = null;
+        entry.right = null;
+        entry.size = 1;
+        root = insert(root, entry);
+        return indexOf(entry);
+    }
+
+    /**
+     * Removes {@code entry} from the tree and returns the index it had in the view.
+     */
+    private int exclude(Entry<S, E> entry) {
+        int index = indexOf(entry);
+        root = remove(root, entry);
+        entry.isIncluded = false;
+        return index;
+    }
+
+    private int indexOf(Entry<S, E> entry) {
+        int index = 0;
+        Entry<S, E> node = root;
+        while (node != entry) {
+            if (compare(entry, node) < 0) {
+                node = node.left;
+            } else {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return index + sizeOf(node.left);
+    }
+
+    private Entry<S, E> insert(Entry<S, E> node, Entry<S, E> entry) {
+        if (node == null) {
+            return entry;
+        }
+        if (compare(entry, node) < 0) {
+            node.left = insert(node.left, entry);
+            updateSize(node);
+            return node.left.priority > node.priority ? rotateRight(node) : node;
+        } else {
+            node.right = insert(node.right, entry);
+            updateSize(node);
+            return node.right.priority > node.priority ? rotateLeft(node) : node;
+        }
+    }
+
+    private Entry<S, E> remove(Entry<S, E> node, Entry<S, E> entry) {
+        if (node == entry) {
+            return merge(node.left, node.right);
+        }
+        if (compare(entry, node) < 0) {
+            node.left = remove(node.left, entry);
+        } else {
+            node.right = remove(node.right, entry);
+        }
+        updateSize(node);
+        return node;
+    }
+
+    private Entry<S, E> merge(Entry<S, E> left, Entry<S, E> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            updateSize(left);
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            updateSize(right);
+            return right;
+        }
+    }
+
+    private Entry<S, E> rotateRight(Entry<S, E> node) {
+        Entry<S, E> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        updateSize(node);
+        updateSize(pivot);
+        return pivot;
+    }
+
+    private Entry<S, E> rotateLeft(Entry<S, E> node) {
+        Entry<S, E> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        updateSize(node);
+        updateSize(pivot);
+        return pivot;
+    }
+
+    private void collectInOrder(Entry<S, E> node, List<Entry<S, E>> entries) {
+        if (node != null) {
+            collectInOrder(node.left, entries);
+            entries.add(node);
+            collectInOrder(node.right, entries);
+        }
+    }
+
+    private static int sizeOf(Entry<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void updateSize(Entry<?, ?> node) {
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+
+    //=========== Source tree ===============================================================================
+
+    private List<Entry<S, E>> createEntries(List<? extends S> elements) {
+        List<Entry<S, E>> entries = new ArrayList<>(elements.size());
+        for (S element : elements) {
+            entries.add(new Entry<>(element, random.nextInt()));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the entries of the source tree in source order.
+     */
+    private List<Entry<S, E>> getSourceEntries() {
+        List<Entry<S, E>> entries = new ArrayList<>(sourceSizeOf(sourceRoot));
+        collectSourceInOrder(sourceRoot, entries);
+        return entries;
+    }
+
+    /**
+     * Replaces the source tree with one holding {@code entries} in the given order.
+     */
+    private void setSourceEntries(List<Entry<S, E>> entries) {
+        sourceRoot = null;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry<S, E> entry = entries.get(i);
+            entry.sourceLeft = null;
+            entry.sourceRight = null;
+            entry.sourceSize = 1;
+            sourceRoot = insertSource(sourceRoot, i, entry);
+            sourceRoot.sourceParent = null;
+        }
+    }
+
+    private Entry<S, E> getSourceEntry(int sourceIndex) {
+        Entry<S, E> node = sourceRoot;
+        while (true) {
+            int leftSize = sourceSizeOf(node.sourceLeft);
+            if (sourceIndex < leftSize) {
+                node = node.sourceLeft;
+            } else if (sourceIndex > leftSize) {
+                sourceIndex -= leftSize + 1;
+                node = node.sourceRight;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private static int sourceIndexOf(Entry<?, ?> entry) {
+        int index = sourceSizeOf(entry.sourceLeft);
+        for (Entry<?, ?> node = entry; node.sourceParent != null; node = node.sourceParent) {
+            if (node == node.sourceParent.sourceRight) {
+                index += sourceSizeOf(node.sourceParent.sourceLeft) + 1;
+            }
+        }
+        return index;
+    }
+
+    private Entry<S, E> insertSource(Entry<S, E> node, int sourceIndex, Entry<S, E> entry) {
+        if (node == null) {
+            return entry;
+        }
+        int leftSize = sourceSizeOf(node.sourceLeft);
+        if (sourceIndex <= leftSize) {
+            setSourceLeft(node, insertSource(node.sourceLeft, sourceIndex, entry));
+            updateSourceSize(node);
+            return node.sourceLeft.priority > node.priority ? rotateSourceRight(node) : node;
+        } else {
+            setSourceRight(node, insertSource(node.sourceRight, sourceIndex - leftSize - 1, entry));
+            updateSourceSize(node);
+            return node.sourceRight.priority > node.priority ? rotateSourceLeft(node) : node;
+        }
+    }
+
+    private Entry<S, E> removeSource(Entry<S, E> node, int sourceIndex) {
+        int leftSize = sourceSizeOf(node.sourceLeft);
+        if (sourceIndex == leftSize) {
+            return mergeSource(node.sourceLeft, node.sourceRight);
+        }
+        if (sourceIndex < leftSize) {
+            setSourceLeft(node, removeSource(node.sourceLeft, sourceIndex));
+        } else {
+            setSourceRight(node, removeSource(node.sourceRight, sourceIndex - leftSize - 1));
+        }
+        updateSourceSize(node);
+        return node;
+    }
+
+    private Entry<S, E> mergeSource(Entry<S, E> left, Entry<S, E> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            setSourceRight(left, mergeSource(left.sourceRight, right));
+            updateSourceSize(left);
+            return left;
+        } else {
+            setSourceLeft(right, mergeSource(left, right.sourceLeft));
+            updateSourceSize(right);
+            return right;
+        }
+    }
+
+    private Entry<S, E> rotateSourceRight(Entry<S, E> node) {
+        Entry<S, E> pivot = node.sourceLeft;
+        setSourceLeft(node, pivot.sourceRight);
+        setSourceRight(pivot, node);
+        updateSourceSize(node);
+        updateSourceSize(pivot);
+        return pivot;
+    }
+
+    private Entry<S, E> rotateSourceLeft(Entry<S, E> node) {
+        Entry<S, E> pivot = node.sourceRight;
+        setSourceRight(node, pivot.sourceLeft);
+        setSourceLeft(pivot, node);
+        updateSourceSize(node);
+        updateSourceSize(pivot);
+        return pivot;
+    }
+
+    private static <S, E> void setSourceLeft(Entry<S, E> node, Entry<S, E> child) {
+        node.sourceLeft = child;
+        if (child != null) {
+            child.sourceParent = node;
+        }
+    }
+
+    private static <S, E> void setSourceRight(Entry<S, E> node, Entry<S, E> child) {
+        node.sourceRight = child;
+        if (child != null) {
+            child.sourceParent = node;
+        }
+    }
+
+    private void collectSourceInOrder(Entry<S, E> node, List<Entry<S, E>> entries) {
+        if (node != null) {
+            collectSourceInOrder(node.sourceLeft, entries);
+            entries.add(node);
+            collectSourceInOrder(node.sourceRight, entries);
+        }
+    }
+
+    private static int sourceSizeOf(Entry<?, ?> node) {
+        return node == null ? 0 : node.sourceSize;
+    }
+
+    private static void updateSourceSize(Entry<?, ?> node) {
+        node.sourceSize = 1 + sourceSizeOf(node.sourceLeft) + sourceSizeOf(node.sourceRight);
+    }
+
+    /**
+     * An element of the source list, which is a node of the source tree, and also a node of the tree of the view while
+     * it is included in the view.
+     */
+    private static class Entry<S, E> {
+        private final int priority;
+        private S source;
+        private E element;
+        private boolean isIncluded;
+        private int position;
+        private Entry<S, E> left;
+        private Entry<S, E> right;
+        private int size = 1;
+        private Entry<S, E> sourceLeft;
+        private Entry<S, E> sourceRight;
+        private Entry<S, E> sourceParent;
+        private int sourceSize = 1;
+
+        Entry(S source, int priority) {
+            requireNonNull(source);
+            this.source = source;
+            this.priority = priority;
+        }
+    }
+}
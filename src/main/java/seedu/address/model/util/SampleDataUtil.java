@@ -19,6 +19,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.School;
 import seedu.address.model.person.level.Level;
@@ -29,14 +30,14 @@ import seedu.address.model.subject.Subject;
  */
 public class SampleDataUtil {
     public static Person[] getSamplePersons() {
-        return new Person[] {
+        Person[] samplePersons = new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"),
                 Optional.of(new School("Abc Secondary School")),
                 Optional.of(new Email("alexyeoh@example.com")),
                 Optional.of(new Address("Blk 30 Geylang Street 29, #06-40")),
                 Optional.of(new Name("Jane Yeoh")),
                 Optional.of(new Phone("87438800")),
-                Optional.of(new Level("sec3")),
+                Optional.of(Level.of("sec3")),
                 getSubjectSet("math"), getLessonSet("monday 2000")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"),
                 Optional.of(new School("Xyz Secondary School")),
@@ -44,7 +45,7 @@ public class SampleDataUtil {
                 Optional.of(new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18")),
                 Optional.of(new Name("Ben Yu")),
                 Optional.of(new Phone("99272758")),
-                Optional.of(new Level("sec4")),
+                Optional.of(Level.of("sec4")),
                 getSubjectSet("math", "phys"), getLessonSet(" monday 1800")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"),
                 Optional.of(new School("Cde Secondary School")),
@@ -52,7 +53,7 @@ public class SampleDataUtil {
                 Optional.of(new Address("Blk 11 Ang Mo Kio Street 74, #11-04")),
                 Optional.of(new Name("Claire Oliveiro")),
                 Optional.of(new Phone("93210288")),
-                Optional.of(new Level("pri6")),
+                Optional.of(Level.of("pri6")),
                 getSubjectSet("math"), getLessonSet("monday 1500")),
             new Person(new Name("David Li"), new Phone("91031282"),
                 Optional.of(new School("Li Secondary School")),
@@ -60,7 +61,7 @@ public class SampleDataUtil {
                 Optional.of(new Address("Blk 436 Serangoon Gardens Street 26, #16-43")),
                 Optional.of(new Name("Li Li")),
                 Optional.of(new Phone("91031288")),
-                Optional.of(new Level("sec3")),
+                Optional.of(Level.of("sec3")),
                 getSubjectSet("hist"), getLessonSet("tuesday 1000")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"),
                 Optional.of(new School("Efg Secondary School")),
@@ -68,7 +69,7 @@ public class SampleDataUtil {
                 Optional.of(new Address("Blk 47 Tampines Street 20, #17-35")),
                 Optional.of(new Name("Frank Ibrahim")),
                 Optional.of(new Phone("92492022")),
-                Optional.of(new Level("pri5")),
+                Optional.of(Level.of("pri5")),
                 getSubjectSet("cn"), getLessonSet("wednesday 1400")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"),
                 Optional.of(new School("Efg Secondary School")),
@@ -76,9 +77,23 @@ public class SampleDataUtil {
                 Optional.of(new Address("Blk 45 Aljunied Street 85, #11-31")),
                 Optional.of(new Name("Bob Balakrishnan")),
                 Optional.of(new Phone("92624411")),
-                Optional.of(new Level("sec4")),
+                Optional.of(Level.of("sec4")),
                 getSubjectSet("phys"), getLessonSet("wednesday 1200"))
         };
+        for (int i = 0; i < samplePersons.length; i++) {
+            samplePersons[i] = withId(samplePersons[i], PersonId.of(i + 1));
+        }
+        return samplePersons;
+    }
+
+    /**
+     * Returns a copy of {@code person} with the given {@code id}, so that the sample address book and the sample
+     * lesson book refer to the same students.
+     */
+    private static Person withId(Person person, PersonId id) {
+        return new Person(id, person.getName(), person.getPhone(),
+                person.getSchool(), person.getEmail(), person.getAddress(), person.getGuardianName(),
+                person.getGuardianPhone(), person.getLevel(), person.getSubjects(), person.getLessons());
     }
 
     public static ReadOnlyAddressBook getSampleAddressBook() {
@@ -94,7 +109,7 @@ public class SampleDataUtil {
      */
     public static Set<Subject> getSubjectSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Subject::new)
+                .map(Subject::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,96 @@
+package seedu.address.model.util;
+
+import java.util.BitSet;
+
+/**
+ * Keeps track of the positions of the elements of a list that only grows at its end, by giving each element a slot
+ * that does not move when an element before it is removed.
+ * The occupied slots are counted in a binary indexed tree, so that freeing a slot and finding the position of the
+ * element in a slot, which is the number of occupied slots before it, both take O(log n) instead of renumbering
+ * every later element.
+ */
+public class SlotPositions {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BitSet occupiedSlots = new BitSet();
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int slotCount;
+    private int occupiedCount;
+
+    /**
+     * Occupies a new slot after all existing ones, and returns it.
+     */
+    public int addSlot() {
+        if (slotCount + 1 >= tree.length) {
+            rebuildTree(tree.length * 2);
+        }
+        int slot = slotCount++;
+        occupiedSlots.set(slot);
+        occupiedCount++;
+        update(slot, 1);
+        return slot;
+    }
+
+    /**
+     * Frees {@code slot}, moving the elements in the slots after it one position forward.
+     * {@code slot} must be occupied.
+     */
+    public void freeSlot(int slot) {
+        assert occupiedSlots.get(slot);
+        occupiedSlots.clear(slot);
+        occupiedCount--;
+        update(slot, -1);
+    }
+
+    /**
+     * Returns the position of the element in {@code slot}, which must be occupied.
+     */
+    public int positionOf(int slot) {
+        assert occupiedSlots.get(slot);
+        int occupiedUpTo = 0;
+        for (int i = slot + 1; i > 0; i -= i & -i) {
+            occupiedUpTo += tree[i];
+        }
+        return occupiedUpTo - 1;
+    }
+
+    /**
+     * Returns the number of slots that have been freed, which are kept until the next {@link #clear()}.
+     */
+    public int getFreedSlotCount() {
+        return slotCount - occupiedCount;
+    }
+
+    /**
+     * Frees every slot, so that the next slot added is slot 0.
+     */
+    public void clear() {
+        occupiedSlots.clear();
+        slotCount = 0;
+        occupiedCount = 0;
+        tree = new int[INITIAL_CAPACITY + 1];
+    }
+
+    private void update(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Rebuilds the tree with room for {@code capacity - 1} slots, in O(capacity).
+     */
+    private void rebuildTree(int capacity) {
+        tree = new int[capacity];
+        for (int slot = occupiedSlots.nextSetBit(0); slot >= 0; slot = occupiedSlots.nextSetBit(slot + 1)) {
+            tree[slot + 1] = 1;
+        }
+        for (int i = 1; i < capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent < capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -17,6 +17,14 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if saving the address book only rewrites the data of the persons that changed since it was last
+     * read or saved, so that the changes do not need to be journaled.
+     */
+    default boolean isSavingChangesOnly() {
+        return false;
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
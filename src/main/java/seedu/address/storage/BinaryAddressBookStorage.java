@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.WriteCache;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.School;
+import seedu.address.model.person.level.Level;
+import seedu.address.model.subject.Subject;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ * Schools, levels, subjects and lessons are saved in the string table of the snapshot, as they are shared by many
+ * persons.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    static final String BOOK_TYPE = "addressbook";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final WriteCache writeCache = new WriteCache();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        BinarySnapshotReader reader = BinarySnapshotReader.open(filePath, BOOK_TYPE);
+        AddressBook addressBook = new AddressBook();
+        Set<PersonId> addedIds = new HashSet<>();
+        try {
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                JsonSerializableAddressBook.addPerson(addressBook, readPerson(reader), addedIds);
+            }
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(BOOK_TYPE);
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(writer, person);
+            writer.endRecord();
+        }
+        writer.save(filePath, writeCache);
+    }
+
+    private static void writePerson(BinarySnapshotWriter writer, Person person) throws IOException {
+        writer.writeLong(person.getId().value);
+        writer.writeString(person.getName().fullName);
+        writer.writeString(person.getPhone().value);
+        writer.writeTableString(person.getSchool().map(school -> school.fullSchoolName).orElse(""));
+        writer.writeString(person.getEmail().map(email -> email.value).orElse(""));
+        writer.writeString(person.getAddress().map(address -> address.value).orElse(""));
+        writer.writeString(person.getGuardianName().map(guardianName -> guardianName.fullName).orElse(""));
+        writer.writeString(person.getGuardianPhone().map(guardianPhone -> guardianPhone.value).orElse(""));
+        writer.writeTableString(person.getLevel().map(Level::getLevel).orElse(""));
+
+        writer.writeVarInt(person.getSubjects().size());
+        for (Subject subject : person.getSubjects()) {
+            writer.writeTableString(subject.subjectName);
+        }
+        writer.writeVarInt(person.getLessons().size());
+        for (Lesson lesson : person.getLessons()) {
+            writer.writeTableString(lesson.formatString());
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(BinarySnapshotWriter, Person)}.
+     *
+     * @throws IllegalArgumentException if there were any data constraints violated in the saved person.
+     */
+    private static Person readPerson(BinarySnapshotReader reader) throws DataConversionException {
+        PersonId id = PersonId.of(reader.readLong());
+        Name name = new Name(reader.readString());
+        Phone phone = new Phone(reader.readString());
+        Optional<School> school = toOptional(reader.readTableString(), School::of);
+        Optional<Email> email = toOptional(reader.readString(), Email::new);
+        Optional<Address> address = toOptional(reader.readString(), Address::new);
+        Optional<Name> guardianName = toOptional(reader.readString(), Name::new);
+        Optional<Phone> guardianPhone = toOptional(reader.readString(), Phone::new);
+        Optional<Level> level = toOptional(reader.readTableString(), Level::of);
+
+        Set<Subject> subjects = new HashSet<>();
+        int subjectCount = reader.readVarInt();
+        for (int i = 0; i < subjectCount; i++) {
+            subjects.add(Subject.of(reader.readTableString()));
+        }
+        Set<Lesson> lessons = new HashSet<>();
+        int lessonCount = reader.readVarInt();
+        for (int i = 0; i < lessonCount; i++) {
+            lessons.add(new Lesson(reader.readTableString()));
+        }
+
+        return new Person(id, name, phone, school, email, address, guardianName, guardianPhone, level, subjects,
+                lessons);
+    }
+
+    /**
+     * Returns the value parsed from {@code value} by {@code parser}, or an empty {@code Optional} if {@code value} is
+     * empty, as is saved for a missing optional field.
+     */
+    private static <T> Optional<T> toOptional(String value, Function<String, T> parser) {
+        return value.isEmpty() ? Optional.empty() : Optional.of(parser.apply(value));
+    }
+
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.WriteCache;
+import seedu.address.model.DatesBook;
+import seedu.address.model.ReadOnlyDatesBook;
+import seedu.address.model.date.Description;
+import seedu.address.model.date.Details;
+import seedu.address.model.date.ImportantDate;
+
+/**
+ * A class to access DatesBook data stored as a binary snapshot file on the hard disk.
+ */
+public class BinaryDatesBookStorage implements DatesBookStorage {
+
+    static final String BOOK_TYPE = "datesbook";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryDatesBookStorage.class);
+
+    private Path filePath;
+    private final WriteCache writeCache = new WriteCache();
+
+    public BinaryDatesBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getDatesBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyDatesBook> readDatesBook() throws DataConversionException, IOException {
+        return readDatesBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readDatesBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyDatesBook> readDatesBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        BinarySnapshotReader reader = BinarySnapshotReader.open(filePath, BOOK_TYPE);
+        DatesBook datesBook = new DatesBook();
+        try {
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                ImportantDate importantDate = new ImportantDate(new Description(reader.readString()),
+                        new Details(reader.readString()));
+                if (datesBook.hasImportantDate(importantDate)) {
+                    throw new IllegalValueException(JsonSerializableDatesBook.MESSAGE_DUPLICATE_IMPORTANT_DATES);
+                }
+                datesBook.addImportantDate(importantDate);
+            }
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return Optional.of(datesBook);
+    }
+
+    @Override
+    public void saveDatesBook(ReadOnlyDatesBook datesBook) throws IOException {
+        saveDatesBook(datesBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveDatesBook(ReadOnlyDatesBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveDatesBook(ReadOnlyDatesBook datesBook, Path filePath) throws IOException {
+        requireNonNull(datesBook);
+        requireNonNull(filePath);
+
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(BOOK_TYPE);
+        for (ImportantDate importantDate : datesBook.getImportantDatesList()) {
+            writer.writeString(importantDate.getDescription().description);
+            writer.writeString(Details.parseLocalDateTimeIntoString(importantDate.getDetails().details));
+            writer.endRecord();
+        }
+        writer.save(filePath, writeCache);
+    }
+}
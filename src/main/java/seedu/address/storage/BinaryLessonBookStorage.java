@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.WriteCache;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access LessonBook data stored as a binary snapshot file on the hard disk.
+ * As in the JSON format, the students in each lesson are saved as references to their phone numbers in the address
+ * book.
+ */
+public class BinaryLessonBookStorage implements LessonBookStorage {
+
+    static final String BOOK_TYPE = "lessonbook";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryLessonBookStorage.class);
+
+    private Path filePath;
+    private final WriteCache writeCache = new WriteCache();
+
+    public BinaryLessonBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getLessonBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        return readLessonBook(filePath, addressBook);
+    }
+
+    /**
+     * Similar to {@link #readLessonBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(addressBook);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        BinarySnapshotReader reader = BinarySnapshotReader.open(filePath, BOOK_TYPE);
+        Map<String, Person> personsByPhone = JsonSerializableLessonBook.getPersonsByPhone(addressBook);
+        LessonBook lessonBook = new LessonBook();
+        try {
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                JsonSerializableLessonBook.addLesson(lessonBook, readLesson(reader, personsByPhone));
+            }
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return Optional.of(lessonBook);
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
+        saveLessonBook(lessonBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLessonBook(ReadOnlyLessonBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        requireNonNull(lessonBook);
+        requireNonNull(filePath);
+
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(BOOK_TYPE);
+        for (Lesson lesson : lessonBook.getLessonList()) {
+            writer.writeString(lesson.formatString());
+            Collection<Person> persons = lesson.getPerson();
+            writer.writeVarInt(persons.size());
+            for (Person person : persons) {
+                writer.writeString(person.getPhone().value);
+            }
+            writer.endRecord();
+        }
+        writer.save(filePath, writeCache);
+    }
+
+    /**
+     * Reads the next lesson from {@code reader}, skipping the students in it who are not in the address book.
+     */
+    private static Lesson readLesson(BinarySnapshotReader reader, Map<String, Person> personsByPhone)
+            throws DataConversionException {
+        String lessonDetails = reader.readString();
+        Set<Person> persons = new HashSet<>();
+        int personCount = reader.readVarInt();
+        for (int i = 0; i < personCount; i++) {
+            String phone = reader.readString();
+            Person person = personsByPhone.get(phone);
+            if (person == null) {
+                logger.warning(String.format(JsonAdaptedLessonInSchedule.MESSAGE_UNKNOWN_PHONE, lessonDetails, phone));
+                continue;
+            }
+            persons.add(person);
+        }
+        return new Lesson(lessonDetails, persons);
+    }
+
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads the records of a book from a binary snapshot file written by {@link BinarySnapshotWriter}.
+ */
+class BinarySnapshotReader {
+
+    private final DataInputStream records;
+    private final String[] stringTable;
+    private final int recordCount;
+
+    private BinarySnapshotReader(DataInputStream payload) throws IOException, DataConversionException {
+        stringTable = new String[readVarInt(payload)];
+        for (int i = 0; i < stringTable.length; i++) {
+            stringTable[i] = readString(payload);
+        }
+        recordCount = readVarInt(payload);
+        records = payload;
+    }
+
+    /**
+     * Returns a reader for the snapshot in {@code filePath}, after checking that it is a snapshot of a book of type
+     * {@code bookType} and that its payload matches its checksum.
+     *
+     * @throws DataConversionException if the file is not a valid snapshot of the expected type and version.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    public static BinarySnapshotReader open(Path filePath, String bookType)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(bookType);
+
+        DataInputStream file = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(filePath)));
+        try {
+            if (file.readInt() != BinarySnapshotWriter.MAGIC) {
+                throw corrupted("Not a binary snapshot file: " + filePath);
+            }
+            int version = file.readInt();
+            if (version < 1 || version > BinarySnapshotWriter.FORMAT_VERSION) {
+                throw corrupted("Unsupported binary snapshot version " + version + ": " + filePath);
+            }
+            String savedBookType = file.readUTF();
+            if (!savedBookType.equals(bookType)) {
+                throw corrupted("Expected a snapshot of a " + bookType + " but found a " + savedBookType);
+            }
+            int payloadLength = file.readInt();
+            long savedChecksum = file.readLong();
+            if (payloadLength < 0 || payloadLength != file.available()) {
+                throw corrupted("Binary snapshot has the wrong length: " + filePath);
+            }
+            byte[] payload = new byte[payloadLength];
+            file.readFully(payload);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(payload);
+            if (checksum.getValue() != savedChecksum) {
+                throw corrupted("Binary snapshot does not match its checksum: " + filePath);
+            }
+            return new BinarySnapshotReader(new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch (EOFException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public long readLong() throws DataConversionException {
+        try {
+            return records.readLong();
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    public int readVarInt() throws DataConversionException {
+        try {
+            return readVarInt(records);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads a string written with {@link BinarySnapshotWriter#writeString(String)}.
+     */
+    public String readString() throws DataConversionException {
+        try {
+            return readString(records);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads a string written with {@link BinarySnapshotWriter#writeTableString(String)}.
+     */
+    public String readTableString() throws DataConversionException {
+        int index = readVarInt();
+        if (index >= stringTable.length) {
+            throw corrupted("String table index out of range: " + index);
+        }
+        return stringTable[index];
+    }
+
+    private static String readString(DataInputStream in) throws IOException, DataConversionException {
+        int length = readVarInt(in);
+        if (length > in.available()) {
+            throw corrupted("String length out of range: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException, DataConversionException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw corrupted("Malformed variable-length integer");
+    }
+
+    private static DataConversionException corrupted(String message) {
+        return new DataConversionException(new IOException(message));
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.WriteCache;
+
+/**
+ * Writes the records of a book to a binary snapshot file.
+ * <p>
+ * A snapshot file starts with a header holding {@link #MAGIC}, the format version, the type of book, the length of
+ * the payload and a CRC32 checksum of the payload. The payload holds a table of the strings written with
+ * {@link #writeTableString(String)}, the number of records, and then the records themselves.
+ * Lengths, counts and string table indexes are written as variable-length integers.
+ */
+class BinarySnapshotWriter {
+
+    /** The first four bytes of every binary snapshot file. */
+    public static final int MAGIC = 0x54505342;
+
+    /** The version of the format written by this class. */
+    public static final int FORMAT_VERSION = 1;
+
+    private final String bookType;
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream records = new DataOutputStream(recordBytes);
+    private final List<String> stringTable = new ArrayList<>();
+    private final Map<String, Integer> stringTableIndexes = new HashMap<>();
+    private int recordCount;
+
+    /**
+     * Creates a writer for a snapshot of a book of type {@code bookType}.
+     */
+    public BinarySnapshotWriter(String bookType) {
+        requireNonNull(bookType);
+        this.bookType = bookType;
+    }
+
+    /**
+     * Marks the end of the current record.
+     */
+    public void endRecord() {
+        recordCount++;
+    }
+
+    public void writeLong(long value) throws IOException {
+        records.writeLong(value);
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        writeVarInt(records, value);
+    }
+
+    /**
+     * Writes {@code value} in full.
+     */
+    public void writeString(String value) throws IOException {
+        writeString(records, value);
+    }
+
+    /**
+     * Writes {@code value} as an index into the string table, so that a value repeated across records is only saved
+     * once.
+     */
+    public void writeTableString(String value) throws IOException {
+        requireNonNull(value);
+        Integer index = stringTableIndexes.get(value);
+        if (index == null) {
+            index = stringTable.size();
+            stringTable.add(value);
+            stringTableIndexes.put(value, index);
+        }
+        writeVarInt(records, index);
+    }
+
+    /**
+     * Saves the snapshot to {@code filePath}.
+     * Replaces the existing file if it exists, creates a new file if it doesn't, and leaves it untouched if it still
+     * holds the same snapshot as last saved to it through {@code writeCache}.
+     * The records are only buffered once: the checksum of the payload is computed from the buffered string table and
+     * records, which are then streamed to the file.
+     *
+     * @see FileUtil#writeToFile(Path, FileUtil.ContentWriter, WriteCache)
+     */
+    public void save(Path filePath, WriteCache writeCache) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writeCache);
+
+        // the part of the payload before the records
+        ByteArrayOutputStream tableBytes = new ByteArrayOutputStream();
+        DataOutputStream table = new DataOutputStream(tableBytes);
+        writeVarInt(table, stringTable.size());
+        for (String value : stringTable) {
+            writeString(table, value);
+        }
+        writeVarInt(table, recordCount);
+        table.flush();
+        records.flush();
+
+        CRC32 checksum = new CRC32();
+        OutputStream checksumStream = new CheckedOutputStream(OutputStream.nullOutputStream(), checksum);
+        tableBytes.writeTo(checksumStream);
+        recordBytes.writeTo(checksumStream);
+
+        FileUtil.writeToFile(filePath, fileStream -> {
+            DataOutputStream file = new DataOutputStream(fileStream);
+            file.writeInt(MAGIC);
+            file.writeInt(FORMAT_VERSION);
+            file.writeUTF(bookType);
+            file.writeInt(tableBytes.size() + recordBytes.size());
+            file.writeLong(checksum.getValue());
+            tableBytes.writeTo(file);
+            recordBytes.writeTo(file);
+            file.flush();
+        }, writeCache);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        requireNonNull(value);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, with the high bit of each byte set if more bytes
+     * follow.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+}
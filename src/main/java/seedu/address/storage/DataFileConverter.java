@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyDatesBook;
+import seedu.address.model.ReadOnlyLessonBook;
+
+/**
+ * Converts the address book, dates book and lesson book between the data file formats.
+ */
+public class DataFileConverter {
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String BINARY_EXTENSION = ".bin";
+    private static final String SEGMENTS_EXTENSION = ".segments";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileConverter.class);
+
+    private DataFileConverter() {} // prevents instantiation
+
+    /**
+     * Returns the path of the binary data file that goes with the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the manifest of the segmented address book that goes with the JSON data file at
+     * {@code jsonFilePath}. The segments are kept in a directory of their own, next to the JSON data file.
+     */
+    public static Path getSegmentedFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + SEGMENTS_EXTENSION)
+                .resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Copies the books in whichever of {@code sources} was saved most recently to {@code target}, if it was saved
+     * more recently than {@code target}.
+     *
+     * @return true if the books were copied.
+     * @throws DataConversionException if a book in the chosen source is not in the correct format.
+     * @throws IOException if there was any problem reading from the chosen source or writing to {@code target}.
+     * @see #convertIfNewer(Storage, Storage)
+     */
+    public static boolean convertIfNewer(List<? extends Storage> sources, Storage target)
+            throws DataConversionException, IOException {
+        requireNonNull(sources);
+        requireNonNull(target);
+
+        Storage newestSource = null;
+        Optional<FileTime> newestSavedTime = Optional.empty();
+        for (Storage source : sources) {
+            Optional<FileTime> savedTime = getLastSavedTime(source, getSavedPaths(target));
+            if (savedTime.isPresent()
+                    && (!newestSavedTime.isPresent() || savedTime.get().compareTo(newestSavedTime.get()) > 0)) {
+                newestSource = source;
+                newestSavedTime = savedTime;
+            }
+        }
+        return newestSource != null && convertIfNewer(newestSource, target);
+    }
+
+    /**
+     * Copies the books in {@code source} to {@code target} if the data files of {@code source} were saved more
+     * recently than those of {@code target}, as happens after the data file format is changed.
+     * Data files that {@code source} and {@code target} share are left out of the comparison.
+     *
+     * @return true if the books were copied.
+     * @throws DataConversionException if a book in {@code source} is not in the correct format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convertIfNewer(Storage source, Storage target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Set<Path> sharedPaths = getSavedPaths(source);
+        sharedPaths.retainAll(getSavedPaths(target));
+        Optional<FileTime> sourceSavedTime = getLastSavedTime(source, sharedPaths);
+        if (!sourceSavedTime.isPresent()) {
+            return false;
+        }
+        Optional<FileTime> targetSavedTime = getLastSavedTime(target, sharedPaths);
+        if (targetSavedTime.isPresent() && targetSavedTime.get().compareTo(sourceSavedTime.get()) >= 0) {
+            return false;
+        }
+        convert(source, target);
+        return true;
+    }
+
+    /**
+     * Returns the paths of the data files of {@code storage} and their journals.
+     */
+    private static Set<Path> getSavedPaths(Storage storage) {
+        Set<Path> savedPaths = new HashSet<>();
+        for (Path filePath : Arrays.asList(storage.getAddressBookFilePath(), storage.getDatesBookFilePath(),
+                storage.getLessonBookFilePath())) {
+            savedPaths.add(filePath.toAbsolutePath());
+            savedPaths.add(JournalStorage.getJournalFilePath(filePath).toAbsolutePath());
+        }
+        return savedPaths;
+    }
+
+    /**
+     * Returns the time at which any of the data files of {@code storage}, or their journals, was last modified,
+     * leaving out those in {@code excludedPaths}.
+     * Returns {@code Optional.empty()} if none of them are found.
+     */
+    private static Optional<FileTime> getLastSavedTime(Storage storage, Set<Path> excludedPaths) throws IOException {
+        Optional<FileTime> lastSavedTime = Optional.empty();
+        for (Path savedPath : getSavedPaths(storage)) {
+            if (excludedPaths.contains(savedPath) || !Files.exists(savedPath)) {
+                continue;
+            }
+            FileTime savedTime = Files.getLastModifiedTime(savedPath);
+            if (!lastSavedTime.isPresent() || savedTime.compareTo(lastSavedTime.get()) > 0) {
+                lastSavedTime = Optional.of(savedTime);
+            }
+        }
+        return lastSavedTime;
+    }
+
+    /**
+     * Copies the books in {@code source} to {@code target}.
+     * Books that are not found in {@code source} are left as they are in {@code target}.
+     *
+     * @throws DataConversionException if a book in {@code source} is not in the correct format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static void convert(Storage source, Storage target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isPresent()) {
+            target.saveAddressBook(addressBook.get());
+            Optional<ReadOnlyLessonBook> lessonBook = source.readLessonBook(addressBook.get());
+            if (lessonBook.isPresent()) {
+                target.saveLessonBook(lessonBook.get());
+            }
+        }
+        Optional<ReadOnlyDatesBook> datesBook = source.readDatesBook();
+        if (datesBook.isPresent()) {
+            target.saveDatesBook(datesBook.get());
+        }
+        target.flush();
+        logger.info("Converted data files from " + source.getAddressBookFilePath() + " to "
+                + target.getAddressBookFilePath());
+    }
+}
@@ -0,0 +1,633 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DatesBook;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyDatesBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.date.ImportantDate;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.level.Level;
+import seedu.address.model.util.ChangeLog;
+
+/**
+ * A {@code Storage} that saves the changes made to each book by appending them to a journal next to the book's file,
+ * instead of rewriting the whole file.
+ * The file of a book holds a snapshot, and reading the book replays its journal on top of the snapshot.
+ * Once a journal grows past the compaction threshold, the snapshot is rewritten and the journal is deleted.
+ * The changes to journal are taken from the changes the book records since it was last journaled. Only if those are
+ * not known, such as for the first save after the book is read, is every record compared with its journaled state.
+ * An address book whose storage already saves only the changes made to it is not journaled.
+ */
+public class JournalStorage implements Storage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final String CHECKSUM_FORMAT = "%08x";
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private static final Logger logger = LogsCenter.getLogger(JournalStorage.class);
+
+    private final Storage storage;
+    private final long compactionThreshold;
+
+    // The state of each book as of its snapshot and journal, by record key, or null if the file has to be rewritten
+    private Map<String, Object> journaledPersons;
+    private Map<String, Object> journaledImportantDates;
+    private Map<String, Object> journaledLessons;
+    // The mark of the state of each book as of its snapshot and journal, or null if it is not known
+    private ChangeLog.Mark journaledPersonsMark;
+    private ChangeLog.Mark journaledImportantDatesMark;
+    private ChangeLog.Mark journaledLessonsMark;
+
+    /**
+     * Creates a {@code JournalStorage} that keeps the snapshots of the books in {@code storage}.
+     */
+    public JournalStorage(Storage storage) {
+        this(storage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalStorage} that keeps the snapshots of the books in {@code storage}, and rewrites a
+     * snapshot once its journal is larger than {@code compactionThreshold} bytes.
+     */
+    public JournalStorage(Storage storage, long compactionThreshold) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal of the book saved at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Folds the journal left next to each book of {@code storage} into the book's snapshot, and deletes the journal,
+     * so that the books can be read from {@code storage} without journaling.
+     */
+    public static void compactJournals(Storage storage) throws DataConversionException, IOException {
+        requireNonNull(storage);
+        JournalStorage journalStorage = new JournalStorage(storage);
+        boolean hasAddressBookJournal = Files.exists(getJournalFilePath(storage.getAddressBookFilePath()));
+        boolean hasDatesBookJournal = Files.exists(getJournalFilePath(storage.getDatesBookFilePath()));
+        boolean hasLessonBookJournal = Files.exists(getJournalFilePath(storage.getLessonBookFilePath()));
+
+        if (hasDatesBookJournal) {
+            Optional<ReadOnlyDatesBook> datesBook = journalStorage.readDatesBook();
+            if (datesBook.isPresent()) {
+                journalStorage.saveDatesBook(datesBook.get(), storage.getDatesBookFilePath());
+            }
+        }
+        if (!hasAddressBookJournal && !hasLessonBookJournal) {
+            return;
+        }
+
+        // the lessons refer to the persons of the address book, so it is read even if only the lessons are journaled
+        Optional<ReadOnlyAddressBook> addressBook = journalStorage.readAddressBook();
+        if (addressBook.isPresent() && hasAddressBookJournal) {
+            journalStorage.saveAddressBook(addressBook.get(), storage.getAddressBookFilePath());
+        }
+        if (hasLessonBookJournal) {
+            Optional<ReadOnlyLessonBook> lessonBook =
+                    journalStorage.readLessonBook(addressBook.orElseGet(AddressBook::new));
+            if (lessonBook.isPresent()) {
+                journalStorage.saveLessonBook(lessonBook.get(), storage.getLessonBookFilePath());
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        storage.flush();
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public boolean isSavingChangesOnly() {
+        return storage.isSavingChangesOnly();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        journaledPersons = null;
+        journaledPersonsMark = null;
+        Optional<ReadOnlyAddressBook> snapshot = storage.readAddressBook();
+        if (!snapshot.isPresent() || storage.isSavingChangesOnly()) {
+            return snapshot;
+        }
+
+        Map<String, Person> persons = toMap(snapshot.get().getPersonList(), JournalStorage::getKey);
+        try {
+            for (JsonAdaptedJournalEntry entry : readJournal(getAddressBookFilePath())) {
+                if (entry.getPerson() == null) {
+                    persons.remove(entry.getKey());
+                } else {
+                    persons.put(entry.getKey(), entry.getPerson().toModelType());
+                }
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(new ArrayList<>(persons.values()));
+            journaledPersons = getStates(addressBook.getPersonList(), JournalStorage::getKey, JournalStorage::getState);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException | RuntimeException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (journaledPersons != null && !storage.isSavingChangesOnly()) {
+            List<JsonAdaptedJournalEntry> entries = getChanges(journaledPersons,
+                    getChangesSince(journaledPersonsMark, addressBook::getChangesSince), addressBook.getPersonList(),
+                    JournalStorage::getKey, JournalStorage::getState, JsonAdaptedJournalEntry::of);
+            if (appendToJournal(getAddressBookFilePath(), entries)) {
+                journaledPersonsMark = addressBook.getChangeMark().orElse(null);
+                return;
+            }
+        }
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (!filePath.equals(getAddressBookFilePath()) || storage.isSavingChangesOnly()) {
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        journaledPersons = null;
+        journaledPersonsMark = null;
+        storage.saveAddressBook(addressBook, filePath);
+        deleteJournal(filePath);
+        journaledPersons = getStates(addressBook.getPersonList(), JournalStorage::getKey, JournalStorage::getState);
+        journaledPersonsMark = addressBook.getChangeMark().orElse(null);
+    }
+
+    // ================ DatesBook methods ==============================
+
+    @Override
+    public Path getDatesBookFilePath() {
+        return storage.getDatesBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDatesBook> readDatesBook() throws DataConversionException, IOException {
+        journaledImportantDates = null;
+        journaledImportantDatesMark = null;
+        Optional<ReadOnlyDatesBook> snapshot = storage.readDatesBook();
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        Map<String, ImportantDate> importantDates = toMap(snapshot.get().getImportantDatesList(),
+                JournalStorage::getKey);
+        try {
+            for (JsonAdaptedJournalEntry entry : readJournal(getDatesBookFilePath())) {
+                if (entry.getImportantDate() == null) {
+                    importantDates.remove(entry.getKey());
+                } else {
+                    importantDates.put(entry.getKey(), entry.getImportantDate().toModelType());
+                }
+            }
+            DatesBook datesBook = new DatesBook();
+            datesBook.setImportantDates(new ArrayList<>(importantDates.values()));
+            journaledImportantDates = getStates(datesBook.getImportantDatesList(), JournalStorage::getKey,
+                    importantDate -> importantDate);
+            return Optional.of(datesBook);
+        } catch (IllegalValueException | RuntimeException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyDatesBook> readDatesBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readDatesBook(filePath);
+    }
+
+    @Override
+    public void saveDatesBook(ReadOnlyDatesBook datesBook) throws IOException {
+        requireNonNull(datesBook);
+        if (journaledImportantDates != null) {
+            List<JsonAdaptedJournalEntry> entries = getChanges(journaledImportantDates,
+                    getChangesSince(journaledImportantDatesMark, datesBook::getChangesSince),
+                    datesBook.getImportantDatesList(), JournalStorage::getKey, importantDate -> importantDate,
+                    JsonAdaptedJournalEntry::of);
+            if (appendToJournal(getDatesBookFilePath(), entries)) {
+                journaledImportantDatesMark = datesBook.getChangeMark().orElse(null);
+                return;
+            }
+        }
+        saveDatesBook(datesBook, getDatesBookFilePath());
+    }
+
+    @Override
+    public void saveDatesBook(ReadOnlyDatesBook datesBook, Path filePath) throws IOException {
+        if (!filePath.equals(getDatesBookFilePath())) {
+            storage.saveDatesBook(datesBook, filePath);
+            return;
+        }
+        journaledImportantDates = null;
+        journaledImportantDatesMark = null;
+        storage.saveDatesBook(datesBook, filePath);
+        deleteJournal(filePath);
+        journaledImportantDates = getStates(datesBook.getImportantDatesList(), JournalStorage::getKey,
+                importantDate -> importantDate);
+        journaledImportantDatesMark = datesBook.getChangeMark().orElse(null);
+    }
+
+    // ================ LessonBook methods ==============================
+
+    @Override
+    public Path getLessonBookFilePath() {
+        return storage.getLessonBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        requireNonNull(addressBook);
+        journaledLessons = null;
+        journaledLessonsMark = null;
+        Optional<ReadOnlyLessonBook> snapshot = storage.readLessonBook(addressBook);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        Map<String, Person> personsByPhone = JsonSerializableLessonBook.getPersonsByPhone(addressBook);
+        Map<String, Lesson> lessons = toMap(snapshot.get().getLessonList(), JournalStorage::getKey);
+        try {
+            for (JsonAdaptedJournalEntry entry : readJournal(getLessonBookFilePath())) {
+                Lesson lesson = entry.getLesson() == null ? null : entry.getLesson().toModelType(personsByPhone);
+                if (lesson == null || lesson.isEmptyLesson()) {
+                    lessons.remove(entry.getKey());
+                } else {
+                    lessons.put(entry.getKey(), lesson);
+                }
+            }
+            LessonBook lessonBook = new LessonBook();
+            lessonBook.setLessons(new ArrayList<>(lessons.values()));
+            journaledLessons = getStates(lessonBook.getLessonList(), JournalStorage::getKey, JournalStorage::getState);
+            return Optional.of(lessonBook);
+        } catch (IllegalValueException | RuntimeException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        return storage.readLessonBook(filePath, addressBook);
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
+        requireNonNull(lessonBook);
+        if (journaledLessons != null) {
+            List<JsonAdaptedJournalEntry> entries = getChanges(journaledLessons,
+                    getChangesSince(journaledLessonsMark, lessonBook::getChangesSince), lessonBook.getLessonList(),
+                    JournalStorage::getKey, JournalStorage::getState, JsonAdaptedJournalEntry::of);
+            if (appendToJournal(getLessonBookFilePath(), entries)) {
+                journaledLessonsMark = lessonBook.getChangeMark().orElse(null);
+                return;
+            }
+        }
+        saveLessonBook(lessonBook, getLessonBookFilePath());
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        if (!filePath.equals(getLessonBookFilePath())) {
+            storage.saveLessonBook(lessonBook, filePath);
+            return;
+        }
+        journaledLessons = null;
+        journaledLessonsMark = null;
+        storage.saveLessonBook(lessonBook, filePath);
+        deleteJournal(filePath);
+        journaledLessons = getStates(lessonBook.getLessonList(), JournalStorage::getKey, JournalStorage::getState);
+        journaledLessonsMark = lessonBook.getChangeMark().orElse(null);
+    }
+
+    // ================ Record keys and states ==============================
+
+    private static String getKey(Person person) {
+        return person.getId().toString();
+    }
+
+    private static String getKey(ImportantDate importantDate) {
+        return importantDate.getDescription().description.toLowerCase(Locale.ROOT);
+    }
+
+    private static String getKey(Lesson lesson) {
+        return lesson.formatString();
+    }
+
+    /**
+     * Returns the saved state of {@code person}, including its level, which {@link Person#equals(Object)} does not
+     * compare.
+     */
+    private static Object getState(Person person) {
+        return Arrays.asList(person, person.getLevel().map(Level::toString).orElse(""));
+    }
+
+    /**
+     * Returns the saved state of {@code lesson}, which is the phone numbers of the persons in it.
+     */
+    private static Object getState(Lesson lesson) {
+        Set<String> phones = new HashSet<>();
+        for (Person person : lesson.getPerson()) {
+            phones.add(person.getPhone().value);
+        }
+        return phones;
+    }
+
+    private static <T> Map<String, T> toMap(List<T> records, Function<T, String> keyMapper) {
+        Map<String, T> map = new LinkedHashMap<>();
+        for (T record : records) {
+            map.put(keyMapper.apply(record), record);
+        }
+        return map;
+    }
+
+    private static <T> Map<String, Object> getStates(List<T> records, Function<T, String> keyMapper,
+                                                     Function<T, Object> stateMapper) {
+        Map<String, Object> states = new HashMap<>();
+        for (T record : records) {
+            states.put(keyMapper.apply(record), stateMapper.apply(record));
+        }
+        return states;
+    }
+
+    private static <T> Optional<List<ChangeLog.Change<T>>> getChangesSince(ChangeLog.Mark journaledMark,
+            Function<ChangeLog.Mark, Optional<List<ChangeLog.Change<T>>>> changesSince) {
+        return journaledMark == null ? Optional.empty() : changesSince.apply(journaledMark);
+    }
+
+    /**
+     * Returns the journal entries that change {@code journaledStates} into the states of {@code records}, and
+     * updates {@code journaledStates} to match.
+     * If the book has recorded the {@code changes} made to it since {@code journaledStates}, only the changed records
+     * are compared with their journaled states. Otherwise, every record is.
+     */
+    private static <T> List<JsonAdaptedJournalEntry> getChanges(Map<String, Object> journaledStates,
+            Optional<List<ChangeLog.Change<T>>> changes, List<T> records, Function<T, String> keyMapper,
+            Function<T, Object> stateMapper, EntryFactory<T> entryFactory) {
+        if (changes.isPresent()) {
+            return getChanges(journaledStates, changes.get(), keyMapper, stateMapper, entryFactory);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        for (T record : records) {
+            String key = keyMapper.apply(record);
+            Object state = stateMapper.apply(record);
+            keys.add(key);
+            if (!state.equals(journaledStates.put(key, state))) {
+                entries.add(entryFactory.create(key, record));
+            }
+        }
+
+        Iterator<String> journaledKeys = journaledStates.keySet().iterator();
+        while (journaledKeys.hasNext()) {
+            String key = journaledKeys.next();
+            if (!keys.contains(key)) {
+                journaledKeys.remove();
+                entries.add(JsonAdaptedJournalEntry.removal(key));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the journal entries for the records in {@code changes} whose states differ from
+     * {@code journaledStates}, and updates {@code journaledStates} to match.
+     */
+    private static <T> List<JsonAdaptedJournalEntry> getChanges(Map<String, Object> journaledStates,
+            List<ChangeLog.Change<T>> changes, Function<T, String> keyMapper, Function<T, Object> stateMapper,
+            EntryFactory<T> entryFactory) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (ChangeLog.Change<T> change : changes) {
+            T record = change.getRecord();
+            String key = keyMapper.apply(record);
+            if (change.isRemoval()) {
+                if (journaledStates.remove(key) != null) {
+                    entries.add(JsonAdaptedJournalEntry.removal(key));
+                }
+                continue;
+            }
+            Object state = stateMapper.apply(record);
+            if (!state.equals(journaledStates.put(key, state))) {
+                entries.add(entryFactory.create(key, record));
+            }
+        }
+        return entries;
+    }
+
+    // ================ Journal files ==============================
+
+    /**
+     * Returns the entries in the journal of the book saved at {@code filePath}.
+     * Each entry is a line holding the checksum of the entry followed by the entry itself. A last entry that is not
+     * terminated or does not match its checksum is the result of a write that did not complete, so it is skipped and
+     * cut off the journal, so that the next entries appended to the journal start on a line of their own.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(Path filePath) throws DataConversionException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(journalFilePath)) {
+            return entries;
+        }
+
+        try {
+            byte[] bytes = Files.readAllBytes(journalFilePath);
+            int lineStart = 0;
+            while (lineStart < bytes.length) {
+                int lineEnd = indexOf(bytes, LINE_SEPARATOR, lineStart);
+                Optional<String> entry = lineEnd == -1
+                        ? Optional.empty()
+                        : getCheckedEntry(new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+                if (entry.isEmpty()) {
+                    if (lineEnd != -1 && lineEnd < bytes.length - 1) {
+                        throw new IOException("Corrupted entry in the middle of journal " + journalFilePath);
+                    }
+                    logger.warning("Cutting off incomplete last entry of journal " + journalFilePath);
+                    truncate(journalFilePath, lineStart);
+                    break;
+                }
+                if (!entry.get().isBlank()) {
+                    entries.add(JsonUtil.fromJsonString(entry.get(), JsonAdaptedJournalEntry.class));
+                }
+                lineStart = lineEnd + 1;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return entries;
+    }
+
+    /**
+     * Appends {@code entries} to the journal of the book saved at {@code filePath}.
+     * Returns false if the snapshot of the book should be rewritten instead, either because the journal has grown
+     * past the compaction threshold or because the entries could not be appended.
+     */
+    private boolean appendToJournal(Path filePath, List<JsonAdaptedJournalEntry> entries) {
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            if (!entries.isEmpty()) {
+                StringBuilder lines = new StringBuilder();
+                if (!endsWithLineSeparator(journalFilePath)) {
+                    lines.append((char) LINE_SEPARATOR);
+                }
+                for (JsonAdaptedJournalEntry entry : entries) {
+                    String json = JsonUtil.toCompactJsonString(entry);
+                    lines.append(String.format(CHECKSUM_FORMAT, getChecksum(json))).append(' ').append(json)
+                            .append((char) LINE_SEPARATOR);
+                }
+                Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            return !Files.exists(journalFilePath) || Files.size(journalFilePath) <= compactionThreshold;
+        } catch (IOException e) {
+            logger.warning("Failed to append to journal " + journalFilePath + ", rewriting " + filePath + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the entry in {@code line} if it matches the checksum it starts with, or an empty string if the line is
+     * blank.
+     */
+    private static Optional<String> getCheckedEntry(String line) {
+        if (line.isBlank()) {
+            return Optional.of("");
+        }
+        int separator = line.indexOf(' ');
+        if (separator == -1) {
+            return Optional.empty();
+        }
+        String entry = line.substring(separator + 1);
+        String checksum = line.substring(0, separator);
+        return checksum.equals(String.format(CHECKSUM_FORMAT, getChecksum(entry)))
+                ? Optional.of(entry)
+                : Optional.empty();
+    }
+
+    private static long getChecksum(String entry) {
+        Checksum checksum = new CRC32C();
+        byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+        checksum.update(bytes, 0, bytes.length);
+        return checksum.getValue();
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int fromIndex) {
+        for (int i = fromIndex; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean endsWithLineSeparator(Path journalFilePath) throws IOException {
+        if (!Files.exists(journalFilePath)) {
+            return true;
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(journalFilePath, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) == LINE_SEPARATOR;
+        }
+    }
+
+    private static void truncate(Path journalFilePath, long size) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(journalFilePath, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    /**
+     * Deletes the journal of the book whose snapshot has just been saved at {@code filePath}.
+     * The snapshot is replaced atomically, and the journal only holds changes already in the new snapshot, so replaying
+     * it after a crash between the two steps gives the same book.
+     */
+    private static void deleteJournal(Path filePath) throws IOException {
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Creates the journal entry that puts a record under a key.
+     */
+    @FunctionalInterface
+    private interface EntryFactory<T> {
+        JsonAdaptedJournalEntry create(String key, T record);
+    }
+}
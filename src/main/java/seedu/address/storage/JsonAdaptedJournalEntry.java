@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.date.ImportantDate;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change recorded in the journal of a book.
+ * An entry holding a record replaces the record with the same key, or adds it if there is none.
+ * An entry holding no record removes the record with its key.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedImportantDate importantDate;
+    private final JsonAdaptedLessonInSchedule lesson;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("key") String key, @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("importantDate") JsonAdaptedImportantDate importantDate,
+                                   @JsonProperty("lesson") JsonAdaptedLessonInSchedule lesson) {
+        this.key = key;
+        this.person = person;
+        this.importantDate = importantDate;
+        this.lesson = lesson;
+    }
+
+    /**
+     * Returns an entry that removes the record with the given {@code key}.
+     */
+    public static JsonAdaptedJournalEntry removal(String key) {
+        return new JsonAdaptedJournalEntry(key, null, null, null);
+    }
+
+    /**
+     * Returns an entry that puts {@code source} under the given {@code key}.
+     */
+    public static JsonAdaptedJournalEntry of(String key, Person source) {
+        return new JsonAdaptedJournalEntry(key, new JsonAdaptedPerson(source), null, null);
+    }
+
+    /**
+     * Returns an entry that puts {@code source} under the given {@code key}.
+     */
+    public static JsonAdaptedJournalEntry of(String key, ImportantDate source) {
+        return new JsonAdaptedJournalEntry(key, null, new JsonAdaptedImportantDate(source), null);
+    }
+
+    /**
+     * Returns an entry that puts {@code source} under the given {@code key}.
+     */
+    public static JsonAdaptedJournalEntry of(String key, Lesson source) {
+        return new JsonAdaptedJournalEntry(key, null, null, new JsonAdaptedLessonInSchedule(source));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+    public JsonAdaptedImportantDate getImportantDate() {
+        return importantDate;
+    }
+
+    public JsonAdaptedLessonInSchedule getLesson() {
+        return lesson;
+    }
+}
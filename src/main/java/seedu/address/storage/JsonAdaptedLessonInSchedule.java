@@ -3,33 +3,50 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
 
 /**
  * Jackson-friendly version of {@link Lesson}.
+ * The students in the lesson are saved as references to their phone numbers in the address book.
  */
 public class JsonAdaptedLessonInSchedule {
 
+    public static final String MESSAGE_MISSING_PHONE = "Lesson's student phone field is missing!";
+    public static final String MESSAGE_UNKNOWN_PHONE = "Skipping student with phone %2$s in lesson %1$s, who is not "
+            + "in the address book.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedLessonInSchedule.class);
+
     private final String lessonDetails;
-    private final List<JsonAdaptedPerson> personList = new ArrayList<>();
+    private final List<String> phones = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonAdaptedLesson} with the given {@code lessonDetails} and {@code personNames}.
+     * Constructs a {@code JsonAdaptedLessonInSchedule} with the given {@code lessonDetails} and student
+     * {@code phones}.
+     * Lessons saved in the old format hold a copy of each student in {@code personList} instead, and only their phone
+     * numbers are kept.
      */
     @JsonCreator
     public JsonAdaptedLessonInSchedule(@JsonProperty("lessonDetails") String lessonDetails,
+                                       @JsonProperty("phones") List<String> phones,
                                        @JsonProperty("personList") List<JsonAdaptedPerson> personList) {
         this.lessonDetails = lessonDetails;
+        if (phones != null) {
+            this.phones.addAll(phones);
+        }
         if (personList != null) {
-            this.personList.addAll(personList);
+            personList.forEach(person -> this.phones.add(person.getPhone()));
         }
     }
 
@@ -38,33 +55,36 @@ public class JsonAdaptedLessonInSchedule {
      */
     public JsonAdaptedLessonInSchedule(Lesson source) {
         lessonDetails = source.formatString();
-        personList.addAll(source.getPerson().stream()
-                .map(JsonAdaptedPerson::new)
+        phones.addAll(source.getPerson().stream()
+                .map(person -> person.getPhone().value)
                 .collect(Collectors.toList()));
     }
 
     /**
      * Converts this Jackson-friendly adapted Lesson object into the model's {@code Lesson} object.
+     * Students who are not in the address book are skipped, as the address book and lesson book are saved separately
+     * and may be out of step after a failed save. The lesson is empty if none of its students are in the address book.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted subject.
+     * @param personsByPhone the persons in the address book, by phone number.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
      */
-    public Lesson toModelType() throws IllegalValueException {
+    public Lesson toModelType(Map<String, Person> personsByPhone) throws IllegalValueException {
         if (!Lesson.isValidLesson(Lesson.getDetails(lessonDetails))) {
             throw new IllegalValueException(Lesson.MESSAGE_CONSTRAINTS);
         }
-        /*
-        final List<Name> personName = new ArrayList<>();
-        for (JsonAdaptedName name: this.personList) {
-            personName.add(name.toModelType());
-        }
 
-        final Set<Name> modelNames = new HashSet<>(personName);
-         */
-        final List<Person> persons = new ArrayList<>();
-        for (JsonAdaptedPerson person : this.personList) {
-            persons.add(person.toModelType());
+        final Set<Person> modelPersons = new HashSet<>();
+        for (String phone : phones) {
+            if (phone == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_PHONE);
+            }
+            Person person = personsByPhone.get(phone);
+            if (person == null) {
+                logger.warning(String.format(MESSAGE_UNKNOWN_PHONE, lessonDetails, phone));
+                continue;
+            }
+            modelPersons.add(person);
         }
-        final Set<Person> modelPersons = new HashSet<>(persons);
 
         return new Lesson(lessonDetails, modelPersons);
     }
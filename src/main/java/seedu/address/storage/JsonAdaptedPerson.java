@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -16,6 +17,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.School;
 import seedu.address.model.person.level.Level;
@@ -28,6 +30,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String school;
@@ -41,9 +44,11 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * {@code id} is null for persons saved before ids were stored.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id,
+                             @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                              @JsonProperty("school") String school, @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
                              @JsonProperty("guardianName") String guardianName,
@@ -51,6 +56,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("level") String level,
                              @JsonProperty("subjects") List<JsonAdaptedSubject> subjects,
                              @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.school = school;
@@ -71,6 +77,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         if (source.getSchool().isPresent()) {
@@ -111,12 +118,29 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the phone number of this adapted person, as it was saved.
+     */
+    String getPhone() {
+        return phone;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(PersonId::generate);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, whose id is
+     * given by {@code missingId} if it was saved without one.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    Person toModelType(Supplier<PersonId> missingId) throws IllegalValueException {
         final List<Subject> personSubjects = new ArrayList<>();
         for (JsonAdaptedSubject tag : subjects) {
             personSubjects.add(tag.toModelType());
@@ -137,10 +161,14 @@ class JsonAdaptedPerson {
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
+        if (!Phone.isValidLength(phone)) {
+            throw new IllegalValueException(Phone.INVALID_LENGTH_MESSAGE);
+        }
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
         final Phone modelPhone = new Phone(phone);
+        final PersonId modelId = id == null ? missingId.get() : PersonId.of(id);
 
         if (school == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, School.class.getSimpleName()));
@@ -148,7 +176,7 @@ class JsonAdaptedPerson {
         if (!school.equals("") && !School.isValidSchool(school)) {
             throw new IllegalValueException(School.MESSAGE_CONSTRAINTS);
         }
-        final Optional<School> modelSchool = school.equals("") ? Optional.empty() : Optional.of(new School(school));
+        final Optional<School> modelSchool = school.equals("") ? Optional.empty() : Optional.of(School.of(school));
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -179,6 +207,9 @@ class JsonAdaptedPerson {
         if (guardianPhone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
+        if (!guardianPhone.equals("") && !Phone.isValidLength(guardianPhone)) {
+            throw new IllegalValueException(Phone.INVALID_LENGTH_MESSAGE);
+        }
         if (!guardianPhone.equals("") && !Phone.isValidPhone(guardianPhone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
@@ -191,11 +222,11 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(Level.MESSAGE_CONSTRAINTS);
         }
         final Optional<Level> modelLevel = level.equals("") ? Optional.empty()
-                : Optional.of(new Level(level));
+                : Optional.of(Level.of(level));
 
         final Set<Subject> modelSubjects = new HashSet<>(personSubjects);
         final Set<Lesson> modelLessons = new HashSet<>(personLessons);
-        return new Person(modelName, modelPhone, modelSchool, modelEmail, modelAddress, modelGuardianName,
+        return new Person(modelId, modelName, modelPhone, modelSchool, modelEmail, modelAddress, modelGuardianName,
                 modelGuardianPhone, modelLevel, modelSubjects, modelLessons);
     }
 
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SegmentedAddressBookStorage}, which records how many
+ * segments the persons are spread over, the position to give the next person added, the generation of the last save
+ * and the generation each segment was last written at.
+ * Manifests saved before generations were recorded have no segment generations.
+ */
+class JsonAdaptedSegmentManifest {
+
+    private final int segmentCount;
+    private final long nextPosition;
+    private final long generation;
+    private final List<Long> segmentGenerations;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("segmentCount") int segmentCount,
+                                      @JsonProperty("nextPosition") long nextPosition,
+                                      @JsonProperty("generation") long generation,
+                                      @JsonProperty("segmentGenerations") List<Long> segmentGenerations) {
+        this.segmentCount = segmentCount;
+        this.nextPosition = nextPosition;
+        this.generation = generation;
+        this.segmentGenerations = segmentGenerations == null ? null : new ArrayList<>(segmentGenerations);
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public long getNextPosition() {
+        return nextPosition;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the generation each segment was last written at, or null if the manifest does not record them.
+     */
+    public List<Long> getSegmentGenerations() {
+        return segmentGenerations;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link Person} saved in a segment of a {@link SegmentedAddressBookStorage}, together
+ * with its position in the address book.
+ */
+class JsonAdaptedSegmentRecord {
+
+    private final Long position;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentRecord(@JsonProperty("position") Long position,
+                                    @JsonProperty("person") JsonAdaptedPerson person) {
+        this.position = position;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code Person} at {@code position} into this class for Jackson use.
+     */
+    public JsonAdaptedSegmentRecord(long position, Person source) {
+        this(position, new JsonAdaptedPerson(source));
+    }
+
+    public Long getPosition() {
+        return position;
+    }
+
+    public JsonAdaptedPerson getPerson() {
+        return person;
+    }
+}
@@ -10,8 +10,7 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.WriteCache;
 import seedu.address.model.ReadOnlyDatesBook;
 
 /**
@@ -22,6 +21,7 @@ public class JsonDatesBookStorage implements DatesBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonDatesBookStorage.class);
 
     private Path filePath;
+    private final WriteCache writeCache = new WriteCache();
 
     public JsonDatesBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -45,14 +45,8 @@ public class JsonDatesBookStorage implements DatesBookStorage {
     public Optional<ReadOnlyDatesBook> readDatesBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableDatesBook> jsonDatesBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableDatesBook.class);
-        if (!jsonDatesBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonDatesBook.get().toModelType());
+            return JsonSerializableDatesBook.readJsonFile(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,7 +67,6 @@ public class JsonDatesBookStorage implements DatesBookStorage {
         requireNonNull(datesBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableDatesBook(datesBook), filePath);
+        JsonSerializableDatesBook.saveJsonFile(datesBook, filePath, writeCache);
     }
 }
@@ -10,8 +10,8 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.WriteCache;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyLessonBook;
 
 /**
@@ -22,6 +22,7 @@ public class JsonLessonBookStorage implements LessonBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonLessonBookStorage.class);
 
     private Path filePath;
+    private final WriteCache writeCache = new WriteCache();
 
     public JsonLessonBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -32,27 +33,24 @@ public class JsonLessonBookStorage implements LessonBookStorage {
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException {
-        return readLessonBook(filePath);
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException {
+        return readLessonBook(filePath, addressBook);
     }
 
     /**
-     * Similar to {@link #readLessonBook()}.
+     * Similar to {@link #readLessonBook(ReadOnlyAddressBook)}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException {
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableLessonBook> jsonLessonBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableLessonBook.class);
-        if (!jsonLessonBook.isPresent()) {
-            return Optional.empty();
-        }
+        requireNonNull(addressBook);
 
         try {
-            return Optional.of(jsonLessonBook.get().toModelType());
+            return JsonSerializableLessonBook.readJsonFile(filePath, addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +71,7 @@ public class JsonLessonBookStorage implements LessonBookStorage {
         requireNonNull(lessonBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), filePath);
+        JsonSerializableLessonBook.saveJsonFile(lessonBook, filePath, writeCache);
     }
 
 }
@@ -1,17 +1,28 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.WriteCache;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +31,12 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Persons list contains more than one person with the id %s.";
+
+    private static final String PERSONS_FIELD = "persons";
+
+    /** Number of persons read from a file before they are converted together. */
+    private static final int CONVERSION_CHUNK_SIZE = 1024;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -47,14 +64,98 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        addPersons(addressBook, toModelPersons(persons, 0), new HashSet<>());
+        return addressBook;
+    }
+
+    /**
+     * Saves the persons in {@code source} to {@code filePath} one at a time, in the same format as this class.
+     * The file is left untouched if it still holds the same Json as last saved to it through {@code writeCache}.
+     */
+    static void saveJsonFile(ReadOnlyAddressBook source, Path filePath, WriteCache writeCache)
+            throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, PERSONS_FIELD,
+                source.getPersonList().stream().map(JsonAdaptedPerson::new), writeCache);
+    }
+
+    /**
+     * Reads the address book saved in {@code filePath} one chunk of persons at a time, or returns
+     * {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<ReadOnlyAddressBook> readJsonFile(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        Set<PersonId> addedIds = new HashSet<>();
+        List<JsonAdaptedPerson> chunk = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+        if (!JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD, JsonAdaptedPerson.class, jsonAdaptedPerson -> {
+            chunk.add(jsonAdaptedPerson);
+            if (chunk.size() == CONVERSION_CHUNK_SIZE) {
+                addPersons(addressBook, toModelPersons(chunk, addressBook.getPersonList().size()), addedIds);
+                chunk.clear();
             }
-            addressBook.addPerson(person);
+        })) {
+            return Optional.empty();
         }
-        return addressBook;
+        addPersons(addressBook, toModelPersons(chunk, addressBook.getPersonList().size()), addedIds);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person} objects in parallel, keeping their order.
+     * A person saved without an id is given one from its position in the file, where the first of
+     * {@code jsonAdaptedPersons} is at {@code firstPosition}.
+     *
+     * @throws IllegalValueException for the first adapted person, in list order, that violates any data constraints.
+     */
+    static List<Person> toModelPersons(List<JsonAdaptedPerson> jsonAdaptedPersons, int firstPosition)
+            throws IllegalValueException {
+        Person[] modelPersons = new Person[jsonAdaptedPersons.size()];
+        IllegalValueException[] failures = new IllegalValueException[jsonAdaptedPersons.size()];
+        IntStream.range(0, jsonAdaptedPersons.size()).parallel().forEach(i -> {
+            try {
+                modelPersons[i] = jsonAdaptedPersons.get(i)
+                        .toModelType(() -> PersonId.ofPosition(firstPosition + i));
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return Arrays.asList(modelPersons);
+    }
+
+    /**
+     * Adds {@code modelPersons} to {@code addressBook} in order, on the calling thread.
+     *
+     * @param addedIds the ids of the persons already added to {@code addressBook}, which is updated with the ids of
+     *     {@code modelPersons}.
+     * @throws IllegalValueException if a person, or a person with the same id, is already in {@code addressBook}.
+     */
+    static void addPersons(AddressBook addressBook, List<Person> modelPersons, Set<PersonId> addedIds)
+            throws IllegalValueException {
+        for (Person person : modelPersons) {
+            addPerson(addressBook, person, addedIds);
+        }
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}, as in {@link #addPersons(AddressBook, List, Set)}.
+     */
+    static void addPerson(AddressBook addressBook, Person person, Set<PersonId> addedIds)
+            throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (!addedIds.add(person.getId())) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, person.getId()));
+        }
+        addressBook.addPerson(person);
     }
 
 }
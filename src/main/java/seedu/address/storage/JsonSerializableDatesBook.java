@@ -1,14 +1,20 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.WriteCache;
 import seedu.address.model.DatesBook;
 import seedu.address.model.ReadOnlyDatesBook;
 import seedu.address.model.date.ImportantDate;
@@ -23,6 +29,8 @@ public class JsonSerializableDatesBook {
     public static final String MESSAGE_DUPLICATE_IMPORTANT_DATES = "Important dates list contains duplicate important"
             + " date(s).";
 
+    private static final String IMPORTANT_DATES_FIELD = "importantDates";
+
     private final List<JsonAdaptedImportantDate> importantDates = new ArrayList<>();
 
     /**
@@ -51,12 +59,44 @@ public class JsonSerializableDatesBook {
     public DatesBook toModelType() throws IllegalValueException {
         DatesBook datesBook = new DatesBook();
         for (JsonAdaptedImportantDate jsonAdaptedImportantDate : importantDates) {
-            ImportantDate importantDate = jsonAdaptedImportantDate.toModelType();
-            if (datesBook.hasImportantDate(importantDate)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_IMPORTANT_DATES);
-            }
-            datesBook.addImportantDate(importantDate);
+            addImportantDate(datesBook, jsonAdaptedImportantDate);
         }
         return datesBook;
     }
+
+    /**
+     * Saves the important dates in {@code source} to {@code filePath} one at a time, in the same format as this class.
+     * The file is left untouched if it still holds the same Json as last saved to it through {@code writeCache}.
+     */
+    static void saveJsonFile(ReadOnlyDatesBook source, Path filePath, WriteCache writeCache)
+            throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, IMPORTANT_DATES_FIELD,
+                source.getImportantDatesList().stream().map(JsonAdaptedImportantDate::new), writeCache);
+    }
+
+    /**
+     * Reads the dates book saved in {@code filePath} one important date at a time, or returns
+     * {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<ReadOnlyDatesBook> readJsonFile(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        DatesBook datesBook = new DatesBook();
+        if (!JsonUtil.readJsonArrayFile(filePath, IMPORTANT_DATES_FIELD, JsonAdaptedImportantDate.class,
+                jsonAdaptedImportantDate -> addImportantDate(datesBook, jsonAdaptedImportantDate))) {
+            return Optional.empty();
+        }
+        return Optional.of(datesBook);
+    }
+
+    private static void addImportantDate(DatesBook datesBook, JsonAdaptedImportantDate jsonAdaptedImportantDate)
+            throws IllegalValueException {
+        ImportantDate importantDate = jsonAdaptedImportantDate.toModelType();
+        if (datesBook.hasImportantDate(importantDate)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_IMPORTANT_DATES);
+        }
+        datesBook.addImportantDate(importantDate);
+    }
 }
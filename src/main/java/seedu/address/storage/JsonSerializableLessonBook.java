@@ -1,17 +1,27 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.WriteCache;
 import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyLessonBook;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
 
 /**
  * An Immutable LessonBook that is serializable to JSON format.
@@ -21,6 +31,8 @@ class JsonSerializableLessonBook {
 
     public static final String MESSAGE_DUPLICATE_LESSON = "Lessons list contains duplicate lesson(s).";
 
+    private static final String LESSONS_FIELD = "lessons";
+
     private final List<JsonAdaptedLessonInSchedule> lessons = new ArrayList<>();
 
     /**
@@ -42,20 +54,73 @@ class JsonSerializableLessonBook {
     }
 
     /**
-     * Converts this lesson book into the model's {@code LessonBook} object.
+     * Converts this lesson book into the model's {@code LessonBook} object, whose lessons hold the persons in
+     * {@code addressBook}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public LessonBook toModelType() throws IllegalValueException {
+    public LessonBook toModelType(ReadOnlyAddressBook addressBook) throws IllegalValueException {
+        Map<String, Person> personsByPhone = getPersonsByPhone(addressBook);
         LessonBook lessonBook = new LessonBook();
         for (JsonAdaptedLessonInSchedule jsonAdaptedLessonInSchedule : lessons) {
-            Lesson lesson = jsonAdaptedLessonInSchedule.toModelType();
-            if (lessonBook.hasLesson(lesson)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
-            }
-            lessonBook.addLesson(lesson);
+            addLesson(lessonBook, jsonAdaptedLessonInSchedule.toModelType(personsByPhone));
         }
         return lessonBook;
     }
 
+    /**
+     * Saves the lessons in {@code source} to {@code filePath} one at a time, in the same format as this class.
+     * The file is left untouched if it still holds the same Json as last saved to it through {@code writeCache}.
+     */
+    static void saveJsonFile(ReadOnlyLessonBook source, Path filePath, WriteCache writeCache)
+            throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, LESSONS_FIELD,
+                source.getLessonList().stream().map(JsonAdaptedLessonInSchedule::new), writeCache);
+    }
+
+    /**
+     * Reads the lesson book saved in {@code filePath} one lesson at a time, or returns {@code Optional.empty()} if
+     * the file is not found. The lessons hold the persons in {@code addressBook}.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<ReadOnlyLessonBook> readJsonFile(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IllegalValueException {
+        Map<String, Person> personsByPhone = getPersonsByPhone(addressBook);
+        LessonBook lessonBook = new LessonBook();
+        if (!JsonUtil.readJsonArrayFile(filePath, LESSONS_FIELD, JsonAdaptedLessonInSchedule.class,
+                jsonAdaptedLessonInSchedule -> addLesson(lessonBook,
+                        jsonAdaptedLessonInSchedule.toModelType(personsByPhone)))) {
+            return Optional.empty();
+        }
+        return Optional.of(lessonBook);
+    }
+
+    /**
+     * Adds {@code lesson} read from a file to {@code lessonBook}, unless none of its students are in the address book.
+     *
+     * @throws IllegalValueException if {@code lessonBook} already has a lesson at the same day and time.
+     */
+    static void addLesson(LessonBook lessonBook, Lesson lesson) throws IllegalValueException {
+        if (lesson.isEmptyLesson()) {
+            return;
+        }
+        if (lessonBook.hasLesson(lesson)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+        }
+        lessonBook.addLesson(lesson);
+    }
+
+    /**
+     * Returns the persons in {@code addressBook}, by phone number.
+     */
+    static Map<String, Person> getPersonsByPhone(ReadOnlyAddressBook addressBook) {
+        Map<String, Person> personsByPhone = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            personsByPhone.put(person.getPhone().value, person);
+        }
+        return personsByPhone;
+    }
+
 }
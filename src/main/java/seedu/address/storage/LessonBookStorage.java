@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyLessonBook;
 
 /**
@@ -18,17 +19,20 @@ public interface LessonBookStorage {
     Path getLessonBookFilePath();
 
     /**
-     * Returns LessonBook data as a {@link seedu.address.model.ReadOnlyLessonBook}.
+     * Returns LessonBook data as a {@link seedu.address.model.ReadOnlyLessonBook}, whose lessons hold the persons
+     * in {@code addressBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException;
 
     /**
      * @see #getLessonBookFilePath()
      */
-    Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException;
 
     /**
      * Saves the given {@link ReadOnlyLessonBook} to the storage.
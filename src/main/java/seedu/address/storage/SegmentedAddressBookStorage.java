@@ -0,0 +1,382 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.WriteCache;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.level.Level;
+
+/**
+ * A class to access AddressBook data stored as segment files on the hard disk.
+ * The persons are spread over a fixed number of segment files by their id, and a manifest in the same directory
+ * records how many segments there are. Saving the address book only rewrites the segments holding persons that
+ * changed. Each person is saved with a position that is kept when the person is edited, so that the order of the
+ * persons can be restored when the segments are read.
+ *
+ * Each save has a generation one higher than the last, and a segment rewritten by a save is written to a new file
+ * named after that generation, leaving the file of its previous generation in place. The manifest records the
+ * generation of every segment and is replaced atomically after all of them are written, and only then are the files of
+ * the previous generations deleted. Reading follows the manifest, so it sees either all or none of the segments
+ * written by a save that was interrupted, as long as the file system replaces the manifest atomically.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_COUNT = 64;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    public static final String MESSAGE_INVALID_SEGMENT_COUNT = "Segment manifest has an invalid segment count!";
+    public static final String MESSAGE_MISSING_RECORD_FIELD = "Segment record's position or person field is missing!";
+    public static final String MESSAGE_INVALID_SEGMENT_GENERATIONS =
+            "Segment manifest's segment generations do not match its segment count!";
+    public static final String MESSAGE_MISSING_SEGMENT = "Segment %s recorded in the manifest is missing!";
+
+    private static final String RECORDS_FIELD = "records";
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private Path filePath;
+    private final int segmentCount;
+    private final WriteCache writeCache = new WriteCache();
+
+    // The positions and states of the persons saved in the segments at filePath, or null if they are not known and
+    // every segment has to be rewritten
+    private Map<PersonId, Long> savedPositions;
+    private List<List<Object>> savedSegments;
+    private long nextPosition;
+
+    // The generation of the manifest at filePath, and the generation each of its segments was last written at
+    private long generation;
+    private long[] savedGenerations;
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} whose manifest is at {@code filePath}.
+     */
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} whose manifest is at {@code filePath}, which spreads the persons
+     * over {@code segmentCount} segments.
+     */
+    SegmentedAddressBookStorage(Path filePath, int segmentCount) {
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_SEGMENT_COUNT);
+        }
+        this.filePath = filePath;
+        this.segmentCount = segmentCount;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean isSavingChangesOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the path of the segment with the given {@code index} written at {@code generation}, for the manifest at
+     * {@code filePath}. Segments of generation 0 were saved before generations were recorded.
+     */
+    static Path getSegmentFilePath(Path filePath, int index, long generation) {
+        String generationSuffix = generation == 0 ? "" : "-" + generation;
+        return filePath.resolveSibling(String.format("%s%02d%s%s", SEGMENT_FILE_PREFIX, index, generationSuffix,
+                SEGMENT_FILE_SUFFIX));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a segment is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            savedSegments = null;
+        }
+        Optional<JsonAdaptedSegmentManifest> manifest =
+                JsonUtil.readJsonFile(filePath, JsonAdaptedSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            int manifestSegmentCount = manifest.get().getSegmentCount();
+            if (manifestSegmentCount <= 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_SEGMENT_COUNT);
+            }
+            long[] segmentGenerations = getSegmentGenerations(manifest.get());
+            List<JsonAdaptedSegmentRecord> records = new ArrayList<>();
+            for (int i = 0; i < manifestSegmentCount; i++) {
+                Path segmentFilePath = getSegmentFilePath(filePath, i, segmentGenerations[i]);
+                boolean isFound = JsonUtil.readJsonArrayFile(segmentFilePath, RECORDS_FIELD,
+                        JsonAdaptedSegmentRecord.class, record -> {
+                            if (record.getPosition() == null || record.getPerson() == null) {
+                                throw new IllegalValueException(MESSAGE_MISSING_RECORD_FIELD);
+                            }
+                            records.add(record);
+                        });
+                if (!isFound && segmentGenerations[i] != 0) {
+                    throw new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT,
+                            segmentFilePath.getFileName()));
+                }
+            }
+            records.sort(Comparator.comparing(JsonAdaptedSegmentRecord::getPosition));
+
+            List<Person> persons = JsonSerializableAddressBook.toModelPersons(records.stream()
+                    .map(JsonAdaptedSegmentRecord::getPerson)
+                    .collect(Collectors.toList()), 0);
+            AddressBook addressBook = new AddressBook();
+            JsonSerializableAddressBook.addPersons(addressBook, persons, new HashSet<>());
+
+            if (isOwnFile && manifestSegmentCount == segmentCount) {
+                long[] positions = records.stream().mapToLong(JsonAdaptedSegmentRecord::getPosition).toArray();
+                long lastPosition = positions.length == 0 ? -1 : positions[positions.length - 1];
+                rememberSavedState(persons, positions, Math.max(manifest.get().getNextPosition(), lastPosition + 1),
+                        manifest.get().getGeneration(), segmentGenerations);
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments that changed since the address book was last read from or saved to {@code filePath} are
+     * rewritten, and the manifest is replaced after all of them are written.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        boolean isTracked = isOwnFile && savedSegments != null;
+        List<List<Object>> previousSegments = isTracked ? savedSegments : null;
+        long[] previousGenerations = isTracked ? savedGenerations : null;
+        long previousGeneration = isTracked ? generation : readGeneration(filePath);
+        if (isOwnFile) {
+            savedSegments = null;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        long[] positions = new long[persons.size()];
+        long next = isTracked ? nextPosition : 0;
+        boolean isInOrder = isTracked;
+        for (int i = 0; i < persons.size(); i++) {
+            Long savedPosition = isTracked ? savedPositions.get(persons.get(i).getId()) : null;
+            positions[i] = savedPosition != null ? savedPosition : next++;
+            isInOrder = isInOrder && (i == 0 || positions[i] > positions[i - 1]);
+        }
+        if (!isInOrder) {
+            // the persons were reordered, so every segment is rewritten with new positions
+            previousSegments = null;
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = i;
+            }
+            next = positions.length;
+        }
+
+        List<List<Object>> segments = getSegmentStates(persons, positions);
+        List<List<Integer>> segmentIndices = getSegmentIndices(persons);
+        FileUtil.createParentDirsOfFile(filePath);
+        long newGeneration = previousGeneration + 1;
+        long[] segmentGenerations = new long[segmentCount];
+        List<Integer> rewrittenIndices = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            if (previousSegments != null && segments.get(i).equals(previousSegments.get(i))) {
+                segmentGenerations[i] = previousGenerations[i];
+                continue;
+            }
+            writeSegment(getSegmentFilePath(filePath, i, newGeneration), segmentIndices.get(i).stream()
+                    .map(index -> new JsonAdaptedSegmentRecord(positions[index], persons.get(index))));
+            segmentGenerations[i] = newGeneration;
+            rewrittenIndices.add(i);
+        }
+        if (rewrittenIndices.isEmpty()) {
+            newGeneration = previousGeneration;
+        }
+        writeManifest(filePath, next, newGeneration, segmentGenerations, !rewrittenIndices.isEmpty());
+        if (previousSegments == null) {
+            deleteUnreferencedSegments(filePath, segmentGenerations);
+        } else {
+            for (int index : rewrittenIndices) {
+                Files.deleteIfExists(getSegmentFilePath(filePath, index, previousGenerations[index]));
+            }
+        }
+        logger.fine("Rewrote " + rewrittenIndices.size() + " of " + segmentCount + " segments of " + filePath);
+
+        if (isOwnFile) {
+            rememberSavedState(persons, positions, next, newGeneration, segmentGenerations);
+        }
+    }
+
+    private int getSegmentIndex(Person person) {
+        return (int) Math.floorMod(person.getId().value, (long) segmentCount);
+    }
+
+    /**
+     * Returns the saved state of {@code person} at {@code position}, including its level, which
+     * {@link Person#equals(Object)} does not compare.
+     */
+    private static Object getState(Person person, long position) {
+        return Arrays.asList(position, person, person.getLevel().map(Level::toString).orElse(""));
+    }
+
+    private List<List<Object>> getSegmentStates(List<Person> persons, long[] positions) {
+        List<List<Object>> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            segments.get(getSegmentIndex(persons.get(i))).add(getState(persons.get(i), positions[i]));
+        }
+        return segments;
+    }
+
+    private List<List<Integer>> getSegmentIndices(List<Person> persons) {
+        List<List<Integer>> segmentIndices = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segmentIndices.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            segmentIndices.get(getSegmentIndex(persons.get(i))).add(i);
+        }
+        return segmentIndices;
+    }
+
+    /**
+     * Returns the generation each segment of {@code manifest} was last written at.
+     *
+     * @throws IllegalValueException if the manifest records a different number of generations than segments.
+     */
+    private static long[] getSegmentGenerations(JsonAdaptedSegmentManifest manifest) throws IllegalValueException {
+        long[] segmentGenerations = new long[manifest.getSegmentCount()];
+        List<Long> recordedGenerations = manifest.getSegmentGenerations();
+        if (recordedGenerations == null) {
+            return segmentGenerations;
+        }
+        if (recordedGenerations.size() != segmentGenerations.length || recordedGenerations.contains(null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_SEGMENT_GENERATIONS);
+        }
+        for (int i = 0; i < segmentGenerations.length; i++) {
+            segmentGenerations[i] = recordedGenerations.get(i);
+        }
+        return segmentGenerations;
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code filePath}, or 0 if there is no readable manifest.
+     */
+    private static long readGeneration(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonAdaptedSegmentManifest.class)
+                    .map(JsonAdaptedSegmentManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataConversionException e) {
+            return 0;
+        }
+    }
+
+    private void rememberSavedState(List<Person> persons, long[] positions, long next, long generation,
+                                    long[] segmentGenerations) {
+        Map<PersonId, Long> positionsById = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positionsById.put(persons.get(i).getId(), positions[i]);
+        }
+        savedPositions = positionsById;
+        savedSegments = getSegmentStates(persons, positions);
+        nextPosition = next;
+        this.generation = generation;
+        savedGenerations = segmentGenerations;
+    }
+
+    /**
+     * Replaces the segment at {@code segmentFilePath} with {@code records}.
+     */
+    private static void writeSegment(Path segmentFilePath, Stream<JsonAdaptedSegmentRecord> records)
+            throws IOException {
+        JsonUtil.saveJsonArrayFile(segmentFilePath, RECORDS_FIELD, records);
+    }
+
+    /**
+     * Replaces the manifest at {@code filePath}, and marks it as modified if any segments were rewritten, so that its
+     * modification time is the time the address book was last changed.
+     */
+    private void writeManifest(Path filePath, long next, long generation, long[] segmentGenerations,
+                               boolean hasRewrittenSegments) throws IOException {
+        JsonUtil.saveJsonFile(new JsonAdaptedSegmentManifest(segmentCount, next, generation,
+                Arrays.stream(segmentGenerations).boxed().collect(Collectors.toList())), filePath, writeCache);
+        if (hasRewrittenSegments) {
+            Files.setLastModifiedTime(filePath, FileTime.from(Instant.now()));
+        }
+    }
+
+    /**
+     * Deletes the segments next to the manifest at {@code filePath} that it does not record, which are left over from
+     * previous generations, a larger segment count or an interrupted save.
+     */
+    private static void deleteUnreferencedSegments(Path filePath, long[] segmentGenerations) throws IOException {
+        Set<Path> referencedFileNames = new HashSet<>();
+        for (int i = 0; i < segmentGenerations.length; i++) {
+            referencedFileNames.add(getSegmentFilePath(filePath, i, segmentGenerations[i]).getFileName());
+        }
+        Path directory = filePath.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(directory,
+                SEGMENT_FILE_PREFIX + "*" + SEGMENT_FILE_SUFFIX)) {
+            for (Path segmentFile : segmentFiles) {
+                if (!referencedFileNames.contains(segmentFile.getFileName())) {
+                    Files.delete(segmentFile);
+                }
+            }
+        }
+    }
+
+}
@@ -44,10 +44,17 @@ public interface Storage extends AddressBookStorage, DatesBookStorage, LessonBoo
     Path getLessonBookFilePath();
 
     @Override
-    Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException;
 
     @Override
     void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException;
 
+    /**
+     * Blocks until all data saved so far has been written to the files.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void flush() throws IOException;
 
 }
@@ -62,6 +62,11 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public boolean isSavingChangesOnly() {
+        return addressBookStorage.isSavingChangesOnly();
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
@@ -121,14 +126,16 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException {
-        return readLessonBook(lessonBookStorage.getLessonBookFilePath());
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        return readLessonBook(lessonBookStorage.getLessonBookFilePath(), addressBook);
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException {
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
         logger.fine("Attempting to read lesson data from file: " + filePath);
-        return lessonBookStorage.readLessonBook(filePath);
+        return lessonBookStorage.readLessonBook(filePath, addressBook);
     }
 
     @Override
@@ -142,4 +149,9 @@ public class StorageManager implements Storage {
         lessonBookStorage.saveLessonBook(lessonBook, filePath);
     }
 
+    @Override
+    public void flush() {
+        // data is written as soon as it is saved
+    }
+
 }
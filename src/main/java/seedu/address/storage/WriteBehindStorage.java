@@ -0,0 +1,511 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyDatesBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.date.ImportantDate;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.ChangeLog;
+
+/**
+ * A {@code Storage} that saves the address book, dates book and lesson book in the background.
+ * Each save takes a snapshot of the book and returns immediately. Snapshots of the same book that are waiting to be
+ * written are merged, so that only the latest one is written.
+ * A snapshot shares the immutable persons and important dates of the book, and copies only the lessons, whose
+ * students can change in place. It also holds the changes made to the book since the snapshot before it was taken,
+ * or since the one before a pending snapshot that it replaces, so that the underlying storage can save only those.
+ * A write that fails is retried with the next save or {@link #flush()}. Its {@code IOException} is passed to the
+ * write status handler as soon as it happens, and thrown from the next {@link #flush()}.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final Executor executor;
+
+    private AddressBookSnapshot pendingAddressBook;
+    private DatesBookSnapshot pendingDatesBook;
+    private LessonBookSnapshot pendingLessonBook;
+    // The mark of the last snapshot taken of each book
+    private ChangeLog.Mark addressBookMark;
+    private ChangeLog.Mark datesBookMark;
+    private ChangeLog.Mark lessonBookMark;
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+    private Consumer<Optional<IOException>> writeStatusHandler = status -> {};
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} on a background thread.
+     */
+    public WriteBehindStorage(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} using {@code executor}.
+     */
+    WriteBehindStorage(Storage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the handler that is told the outcome of the background writes, on the thread that writes them.
+     * It is given the {@code IOException} of each write that fails, and an empty {@code Optional} once every pending
+     * snapshot has been written.
+     */
+    public void setWriteStatusHandler(Consumer<Optional<IOException>> writeStatusHandler) {
+        requireNonNull(writeStatusHandler);
+        synchronized (this) {
+            this.writeStatusHandler = writeStatusHandler;
+        }
+    }
+
+    /**
+     * Blocks until every pending snapshot has been written.
+     *
+     * @throws IOException if a snapshot could not be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            if (hasPendingWrite()) {
+                scheduleWrite();
+            }
+            try {
+                while (isWriteScheduled) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+            }
+        }
+        throwWriteFailure();
+        storage.flush();
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public boolean isSavingChangesOnly() {
+        return storage.isSavingChangesOnly();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        synchronized (this) {
+            snapshot.recordChangesSince(addressBook,
+                    pendingAddressBook == null ? addressBookMark : pendingAddressBook.baseMark);
+            addressBookMark = snapshot.mark;
+            pendingAddressBook = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ DatesBook methods ==============================
+
+    @Override
+    public Path getDatesBookFilePath() {
+        return storage.getDatesBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDatesBook> readDatesBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readDatesBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyDatesBook> readDatesBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readDatesBook(filePath);
+    }
+
+    @Override
+    public void saveDatesBook(ReadOnlyDatesBook datesBook) throws IOException {
+        requireNonNull(datesBook);
+        DatesBookSnapshot snapshot = new DatesBookSnapshot(datesBook);
+        synchronized (this) {
+            snapshot.recordChangesSince(datesBook,
+                    pendingDatesBook == null ? datesBookMark : pendingDatesBook.baseMark);
+            datesBookMark = snapshot.mark;
+            pendingDatesBook = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public void saveDatesBook(ReadOnlyDatesBook datesBook, Path filePath) throws IOException {
+        flush();
+        storage.saveDatesBook(datesBook, filePath);
+    }
+
+    // ================ LessonBook methods ==============================
+
+    @Override
+    public Path getLessonBookFilePath() {
+        return storage.getLessonBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readLessonBook(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readLessonBook(filePath, addressBook);
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
+        requireNonNull(lessonBook);
+        LessonBookSnapshot snapshot = new LessonBookSnapshot(lessonBook);
+        synchronized (this) {
+            snapshot.recordChangesSince(lessonBook,
+                    pendingLessonBook == null ? lessonBookMark : pendingLessonBook.baseMark);
+            lessonBookMark = snapshot.mark;
+            pendingLessonBook = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        flush();
+        storage.saveLessonBook(lessonBook, filePath);
+    }
+
+    // ================ Background writing ==============================
+
+    private synchronized boolean hasPendingWrite() {
+        return pendingAddressBook != null || pendingDatesBook != null || pendingLessonBook != null;
+    }
+
+    private synchronized void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::writePendingBooks);
+        }
+    }
+
+    private synchronized void throwWriteFailure() throws IOException {
+        IOException failure = writeFailure;
+        writeFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the pending snapshots until there are none left, or until a write fails.
+     * Snapshots that could not be written are kept pending, unless a newer snapshot of the same book has been saved.
+     */
+    private void writePendingBooks() {
+        while (true) {
+            AddressBookSnapshot addressBook;
+            DatesBookSnapshot datesBook;
+            LessonBookSnapshot lessonBook;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                datesBook = pendingDatesBook;
+                lessonBook = pendingLessonBook;
+                pendingAddressBook = null;
+                pendingDatesBook = null;
+                pendingLessonBook = null;
+                if (addressBook == null && datesBook == null && lessonBook == null) {
+                    isWriteScheduled = false;
+                    notifyAll();
+                    break;
+                }
+            }
+
+            boolean hasFailed = false;
+            if (addressBook != null && !write(() -> storage.saveAddressBook(addressBook))) {
+                hasFailed = true;
+                synchronized (this) {
+                    pendingAddressBook = pendingAddressBook == null ? addressBook : pendingAddressBook;
+                }
+            }
+            if (datesBook != null && !write(() -> storage.saveDatesBook(datesBook))) {
+                hasFailed = true;
+                synchronized (this) {
+                    pendingDatesBook = pendingDatesBook == null ? datesBook : pendingDatesBook;
+                }
+            }
+            if (lessonBook != null && !write(() -> storage.saveLessonBook(lessonBook))) {
+                hasFailed = true;
+                synchronized (this) {
+                    pendingLessonBook = pendingLessonBook == null ? lessonBook : pendingLessonBook;
+                }
+            }
+
+            if (hasFailed) {
+                synchronized (this) {
+                    isWriteScheduled = false;
+                    notifyAll();
+                }
+                return;
+            }
+        }
+        getWriteStatusHandler().accept(Optional.empty());
+    }
+
+    private synchronized Consumer<Optional<IOException>> getWriteStatusHandler() {
+        return writeStatusHandler;
+    }
+
+    /**
+     * Runs {@code write} and returns true if it succeeds.
+     * If it fails, the failure is passed to the write status handler, and recorded so that it is thrown by the next
+     * flush.
+     */
+    private boolean write(StorageWrite write) {
+        try {
+            write.run();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save data in the background: " + e);
+            IOException failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            synchronized (this) {
+                writeFailure = failure;
+            }
+            getWriteStatusHandler().accept(Optional.of(failure));
+            return false;
+        }
+    }
+
+    /**
+     * A snapshot of an address book, which shares its immutable persons.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+        private final ChangeLog.Mark mark;
+        private ChangeLog.Mark baseMark;
+        private List<ChangeLog.Change<Person>> changes;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            version = addressBook.getVersion();
+            mark = addressBook.getChangeMark().orElse(null);
+        }
+
+        /**
+         * Keeps the changes made to {@code addressBook}, which this is a snapshot of, since {@code baseMark}.
+         */
+        void recordChangesSince(ReadOnlyAddressBook addressBook, ChangeLog.Mark baseMark) {
+            this.baseMark = baseMark;
+            changes = baseMark == null ? null : addressBook.getChangesSince(baseMark).orElse(null);
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public Optional<ChangeLog.Mark> getChangeMark() {
+            return Optional.ofNullable(mark);
+        }
+
+        @Override
+        public Optional<List<ChangeLog.Change<Person>>> getChangesSince(ChangeLog.Mark mark) {
+            return mark.equals(baseMark) ? Optional.ofNullable(changes) : Optional.empty();
+        }
+    }
+
+    /**
+     * A snapshot of a dates book, which shares its immutable important dates.
+     */
+    private static class DatesBookSnapshot implements ReadOnlyDatesBook {
+        private final ObservableList<ImportantDate> importantDates;
+        private final long version;
+        private final ChangeLog.Mark mark;
+        private ChangeLog.Mark baseMark;
+        private List<ChangeLog.Change<ImportantDate>> changes;
+
+        DatesBookSnapshot(ReadOnlyDatesBook datesBook) {
+            importantDates = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(datesBook.getImportantDatesList()));
+            version = datesBook.getVersion();
+            mark = datesBook.getChangeMark().orElse(null);
+        }
+
+        /**
+         * Keeps the changes made to {@code datesBook}, which this is a snapshot of, since {@code baseMark}.
+         */
+        void recordChangesSince(ReadOnlyDatesBook datesBook, ChangeLog.Mark baseMark) {
+            this.baseMark = baseMark;
+            changes = baseMark == null ? null : datesBook.getChangesSince(baseMark).orElse(null);
+        }
+
+        @Override
+        public ObservableList<ImportantDate> getImportantDatesList() {
+            return importantDates;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public Optional<ChangeLog.Mark> getChangeMark() {
+            return Optional.ofNullable(mark);
+        }
+
+        @Override
+        public Optional<List<ChangeLog.Change<ImportantDate>>> getChangesSince(ChangeLog.Mark mark) {
+            return mark.equals(baseMark) ? Optional.ofNullable(changes) : Optional.empty();
+        }
+    }
+
+    /**
+     * A snapshot of a lesson book, which holds a copy of each lesson, since the students of a lesson can change in
+     * place.
+     */
+    private static class LessonBookSnapshot implements ReadOnlyLessonBook {
+        private final ObservableList<Lesson> lessons;
+        private final long version;
+        private final ChangeLog.Mark mark;
+        private ChangeLog.Mark baseMark;
+        private List<ChangeLog.Change<Lesson>> changes;
+
+        LessonBookSnapshot(ReadOnlyLessonBook lessonBook) {
+            List<Lesson> lessonCopies = new ArrayList<>(lessonBook.getLessonList().size());
+            for (Lesson lesson : lessonBook.getLessonList()) {
+                lessonCopies.add(Lesson.copyOf(lesson));
+            }
+            lessons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(lessonCopies));
+            version = lessonBook.getVersion();
+            mark = lessonBook.getChangeMark().orElse(null);
+        }
+
+        /**
+         * Keeps a copy of the changes made to {@code lessonBook}, which this is a snapshot of, since
+         * {@code baseMark}.
+         */
+        void recordChangesSince(ReadOnlyLessonBook lessonBook, ChangeLog.Mark baseMark) {
+            this.baseMark = baseMark;
+            changes = null;
+            Optional<List<ChangeLog.Change<Lesson>>> lessonChanges = baseMark == null
+                    ? Optional.empty()
+                    : lessonBook.getChangesSince(baseMark);
+            if (lessonChanges.isPresent()) {
+                changes = new ArrayList<>(lessonChanges.get().size());
+                for (ChangeLog.Change<Lesson> change : lessonChanges.get()) {
+                    changes.add(new ChangeLog.Change<>(Lesson.copyOf(change.getRecord()), change.isRemoval()));
+                }
+            }
+        }
+
+        @Override
+        public ObservableList<Lesson> getLessonList() {
+            return lessons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public Optional<ChangeLog.Mark> getChangeMark() {
+            return Optional.ofNullable(mark);
+        }
+
+        @Override
+        public Optional<List<ChangeLog.Change<Lesson>>> getChangesSince(ChangeLog.Mark mark) {
+            return mark.equals(baseMark) ? Optional.ofNullable(changes) : Optional.empty();
+        }
+    }
+
+    /**
+     * A write to the underlying storage.
+     */
+    @FunctionalInterface
+    private interface StorageWrite {
+        void run() throws IOException;
+    }
+}
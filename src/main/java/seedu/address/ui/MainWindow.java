@@ -1,10 +1,14 @@
 package seedu.address.ui;
 
+import static seedu.address.commons.core.Messages.MESSAGE_COMMAND_QUEUED;
 import static seedu.address.commons.core.Messages.MESSAGE_DO_NOT_PROCEED_COMMAND;
+import static seedu.address.commons.core.Messages.MESSAGE_QUEUED_COMMANDS_DROPPED;
 import static seedu.address.ui.CommandBox.DUPLICATE_LESSON;
 import static seedu.address.ui.CommandBox.DUPLICATE_NAME;
 import static seedu.address.ui.CommandBox.DUPLICATE_NAME_AND_LESSON;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -44,6 +48,7 @@ public class MainWindow extends UiPart<Stage> {
     private ScheduleWindow scheduleWindow;
     private CommandBox commandBox;
     private ImportantDatesWindow importantDatesWindow;
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -139,12 +144,24 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.loadingStatusProperty(), logic.saveStatusProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.saveStatusProperty().addListener((observable, oldStatus, newStatus) -> {
+            if (!newStatus.isEmpty()) {
+                resultDisplay.setFeedbackToUser(newStatus);
+            }
+        });
 
         commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
+        logic.loadingProperty().addListener((observable, wasLoading, isLoading) -> {
+            if (!isLoading) {
+                executeQueuedCommands();
+            }
+        });
+
     }
 
     /**
@@ -223,6 +240,13 @@ public class MainWindow extends UiPart<Stage> {
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (logic.loadingProperty().get()) {
+            queuedCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback);
+        }
+
         try {
             if (commandBox.isWaitForNextInput()) {
                 if (logic.isProceed(commandText)) {
@@ -269,4 +293,23 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Executes the commands entered while the data was being loaded, in the order they were entered.
+     * If a command asks the user to confirm it, the commands after it are dropped, as they would otherwise be taken
+     * as the answer.
+     */
+    private void executeQueuedCommands() {
+        while (!queuedCommands.isEmpty()) {
+            try {
+                executeCommand(queuedCommands.remove());
+            } catch (CommandException | ParseException | IllegalArgumentException e) {
+                if (commandBox.isWaitForNextInput() && !queuedCommands.isEmpty()) {
+                    resultDisplay.setFeedbackToUser(e.getMessage() + "\n"
+                            + String.format(MESSAGE_QUEUED_COMMANDS_DROPPED, queuedCommands.size()));
+                    queuedCommands.clear();
+                }
+            }
+        }
+    }
 }
@@ -105,8 +105,15 @@ public class PersonDetails extends UiPart<Region> {
         guardianContact.setText(guardianContactString);
     }
 
+    /**
+     * Binds the lesson list panel to {@code lessonList}, which is kept up to date by the model.
+     */
     public void setLessonList(ObservableList<Lesson> lessonList) {
-        lessonListPanel = new DetailLessonListPanel(lessonList);
-        lessonListPanelPlaceholder.getChildren().add(lessonListPanel.getRoot());
+        if (lessonListPanel == null) {
+            lessonListPanel = new DetailLessonListPanel(lessonList);
+            lessonListPanelPlaceholder.getChildren().add(lessonListPanel.getRoot());
+        } else {
+            lessonListPanel.setLessonList(lessonList);
+        }
     }
 }
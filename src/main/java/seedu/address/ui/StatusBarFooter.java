@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -17,12 +18,22 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
+    @FXML
+    private Label saveStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows the current values of
+     * {@code loadingStatus} and {@code saveStatus}.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<String> loadingStatus,
+            ObservableValue<String> saveStatus) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        this.loadingStatus.textProperty().bind(loadingStatus);
+        this.saveStatus.textProperty().bind(saveStatus);
     }
 
 }
@@ -31,6 +31,13 @@ public class DetailLessonListPanel extends UiPart<Region> {
         lessonListView.setCellFactory(listView -> new LessonListViewCell());
     }
 
+    /**
+     * Shows {@code lessonList} in place of the lessons shown before.
+     */
+    public void setLessonList(ObservableList<Lesson> lessonList) {
+        lessonListView.setItems(lessonList);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
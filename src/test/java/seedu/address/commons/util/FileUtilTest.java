@@ -1,13 +1,28 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,79 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_createsFile() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertOnlyFileInFolder(file);
+    }
+
+    @Test
+    public void writeToFile_sameContent_leavesFileUntouched() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        WriteCache writeCache = new WriteCache();
+        FileUtil.writeToFile(file, writerOf("content"), writeCache);
+        Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+
+        FileUtil.writeToFile(file, writerOf("content"), writeCache);
+
+        assertEquals(fileKey, Files.readAttributes(file, BasicFileAttributes.class).fileKey());
+        assertEquals(lastModifiedTime, Files.getLastModifiedTime(file));
+        assertOnlyFileInFolder(file);
+    }
+
+    @Test
+    public void writeToFile_sameContentThroughAnotherCache_rewritesFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, writerOf("content"), new WriteCache());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+
+        FileUtil.writeToFile(file, writerOf("content"), new WriteCache());
+
+        assertFalse(Files.getLastModifiedTime(file).equals(FileTime.fromMillis(0)));
+        assertOnlyFileInFolder(file);
+    }
+
+    @Test
+    public void writeToFile_fileChangedSinceLastWrite_rewritesFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        WriteCache writeCache = new WriteCache();
+        FileUtil.writeToFile(file, writerOf("content"), writeCache);
+        Files.write(file, "CONTENT".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+
+        FileUtil.writeToFile(file, writerOf("content"), writeCache);
+
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_contentWriterFails_keepsOldFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, out -> {
+            out.write("half".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy exception");
+        }));
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertOnlyFileInFolder(file);
+    }
+
+    private static FileUtil.ContentWriter writerOf(String content) {
+        return out -> out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Asserts that {@code file} is the only file in its folder, so no temporary file was left behind.
+     */
+    private static void assertOnlyFileInFolder(Path file) throws IOException {
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
 }
@@ -1,12 +1,23 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +50,52 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonArrayFile_sameFormatAsSaveJsonFile() throws Exception {
+        List<String> records = Arrays.asList("first", "second");
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "records", records.stream());
+
+        assertEquals(JsonUtil.toJsonString(Collections.singletonMap("records", records)),
+                FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFieldsPresent_readsRecordsInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"_comment\" : { \"records\" : [ \"skipped\" ] }, "
+                + "\"records\" : [ { \"key\" : \"a\" }, { \"key\" : \"b\" } ], \"other\" : [ 1 ] }");
+        List<Map<?, ?>> records = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "records", Map.class, records::add));
+        assertEquals(Arrays.asList(Collections.singletonMap("key", "a"), Collections.singletonMap("key", "b")),
+                records);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayFile(TestUtil.getFilePathInSandboxFolder("missing.json"), "records",
+                String.class, record -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_truncatedFile_throwsDataConversionException() throws Exception {
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "records", Stream.of("first", "second"));
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        FileUtil.writeToFile(SERIALIZATION_FILE, json.substring(0, json.indexOf("second")));
+
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "records",
+                String.class, record -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_recordRejected_throwsIllegalValueException() throws Exception {
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "records", Stream.of("first"));
+
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "records",
+                String.class, record -> {
+                    throw new IllegalValueException(record);
+                }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
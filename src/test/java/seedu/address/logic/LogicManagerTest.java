@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_STILL_LOADING;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -78,7 +81,50 @@ public class LogicManagerTest {
 
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
+        setUpIoExceptionThrowingStorage();
+
+        // Execute add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + SCHOOL_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GUARDIAN_NAME_DESC_AMY + GUARDIAN_PHONE_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withSubjects().withLessons().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unmodifiedAddressBook_doesNotSave() throws Exception {
+        setUpIoExceptionThrowingStorage();
+
+        // list command does not modify the address book, so the throwing storage is never called
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_stillLoading_throwsCommandException() {
+        logic.setLoadingStatus("Loading");
+        assertTrue(logic.loadingProperty().get());
+        assertCommandException(ListCommand.COMMAND_WORD, MESSAGE_STILL_LOADING);
+    }
+
+    @Test
+    public void execute_afterFinishLoading_doesNotSaveLoadedData() throws Exception {
+        setUpIoExceptionThrowingStorage();
+        logic.setLoadingStatus("Loading");
+        model.addPerson(AMY);
+        logic.finishLoading();
+
+        assertFalse(logic.loadingProperty().get());
+        assertEquals("", logic.loadingStatusProperty().get());
+        // the loaded address book is already in storage, so the throwing storage is never called
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    /**
+     * Sets up the LogicManager with a {@code JsonAddressBookIoExceptionThrowingStub}.
+     */
+    private void setUpIoExceptionThrowingStorage() {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
         JsonUserPrefsStorage userPrefsStorage =
@@ -91,15 +137,6 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, datesBookStorage,
                 lessonBookStorage);
         logic = new LogicManager(model, storage);
-
-        // Execute add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + SCHOOL_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
-                + ADDRESS_DESC_AMY + GUARDIAN_NAME_DESC_AMY + GUARDIAN_PHONE_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withSubjects().withLessons().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
     @Test
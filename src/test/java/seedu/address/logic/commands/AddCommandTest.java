@@ -17,7 +17,6 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -31,6 +30,7 @@ import seedu.address.model.date.ImportantDate;
 import seedu.address.model.lesson.Day;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.predicate.NameSchoolAndSubjectContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -134,6 +134,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -174,6 +179,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getPotentialPersons(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -189,6 +199,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void searchPersons(NameSchoolAndSubjectContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -290,11 +305,6 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void setTransformedDayList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public ReadOnlyLessonBook getLessonBook() {
             throw new AssertionError("This method should not be called.");
@@ -320,11 +330,6 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void updateLessonDayList(ArrayList<Day> lessonDays) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void addPersonToLesson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -366,18 +371,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObservableList<Lesson> getTransformedLessonListForPerson() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void filterThenSortLessonList(Predicate<Lesson> predicate, Comparator<Lesson> comparator) {
+        public ObservableList<Lesson> getLessonListForPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void updateFilteredDailyLessonList(FilteredList<Lesson> lessons,
-                Predicate<Lesson> predicate, ObservableList<Lesson> transformedList) {
+        public ObservableList<Lesson> getLessonsForDay(Day day) {
             throw new AssertionError("This method should not be called.");
         }
 
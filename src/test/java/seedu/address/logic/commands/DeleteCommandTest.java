@@ -38,8 +38,8 @@ public class DeleteCommandTest {
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getDatesBook(),
                 model.getLessonBook());
-        expectedModel.deletePerson(personToDelete);
         expectedModel.removePersonFromLesson(personToDelete);
+        expectedModel.deletePerson(personToDelete);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
@@ -63,8 +63,8 @@ public class DeleteCommandTest {
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getDatesBook(),
                 model.getLessonBook());
-        expectedModel.deletePerson(personToDelete);
         expectedModel.removePersonFromLesson(personToDelete);
+        expectedModel.deletePerson(personToDelete);
         // showNoPerson(expectedModel);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DatesBook;
+import seedu.address.model.LessonBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.level.Level;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LevelUpCommand}.
+ */
+public class LevelUpCommandTest {
+
+    private static final Person JC2_ALICE = new PersonBuilder(ALICE).withLevel("jc2").build();
+    private static final Person SEC1_BENSON = new PersonBuilder(BENSON).withLevel("sec1").build();
+
+    private Model createModel() {
+        AddressBook addressBook = new AddressBook();
+        LessonBook lessonBook = new LessonBook();
+        for (Person person : Arrays.asList(JC2_ALICE, SEC1_BENSON)) {
+            addressBook.addPerson(person);
+            lessonBook.addPersonToLesson(person);
+        }
+        return new ModelManager(addressBook, new UserPrefs(), new DatesBook(), lessonBook);
+    }
+
+    private static Optional<Level> getLevelOf(Model model, Person person) {
+        return model.getAddressBook().getPersonList().stream()
+                .filter(person::isSamePerson)
+                .findFirst()
+                .get()
+                .getLevel();
+    }
+
+    @Test
+    public void execute_jc2Student_graduates() throws Exception {
+        Model model = createModel();
+
+        CommandResult result = new LevelUpCommand(Collections.emptyList()).execute(model);
+
+        assertEquals(LevelUpCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(Optional.of(Level.of("grad")), getLevelOf(model, JC2_ALICE));
+        assertEquals(Optional.of(Level.of("sec2")), getLevelOf(model, SEC1_BENSON));
+    }
+
+    @Test
+    public void execute_jc2Student_graduatesInLessons() throws Exception {
+        Model model = createModel();
+
+        new LevelUpCommand(Collections.emptyList()).execute(model);
+
+        for (Lesson lesson : model.getLessonBook().getLessonList()) {
+            for (Person person : lesson.getPerson()) {
+                assertEquals(getLevelOf(model, person), person.getLevel());
+            }
+        }
+    }
+
+    @Test
+    public void execute_excludedStudent_keepsLevel() throws Exception {
+        Model model = createModel();
+        Index aliceIndex = Index.fromZeroBased(model.getTransformedPersonList().indexOf(JC2_ALICE));
+
+        new LevelUpCommand(List.of(aliceIndex)).execute(model);
+
+        assertEquals(Optional.of(Level.of("jc2")), getLevelOf(model, JC2_ALICE));
+        assertEquals(Optional.of(Level.of("sec2")), getLevelOf(model, SEC1_BENSON));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Model model = createModel();
+        Index outOfBoundIndex = Index.fromOneBased(model.getTransformedPersonList().size() + 1);
+
+        assertCommandFailure(new LevelUpCommand(List.of(outOfBoundIndex)), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+}
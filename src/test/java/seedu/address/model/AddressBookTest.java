@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -56,6 +57,22 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_afterModification_changes() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        // read-only operations -> version unchanged
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -119,6 +136,32 @@ public class AddressBookTest {
         assertFalse(addressBook.hasPotentialPerson(editedAlice));
     }
 
+    @Test
+    public void hasPotentialPerson_samePersonRemovedFromAddressBook_returnsFalse() {
+        addressBook.addPerson(ALICE);
+        addressBook.removePerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertFalse(addressBook.hasPotentialPerson(editedAlice));
+    }
+
+    @Test
+    public void getPotentialPersons_personWithSameNameDiffPhoneInAddressBook_returnsThatPerson() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPotentialPersons(editedAlice));
+        assertEquals(Collections.emptyList(), addressBook.getPotentialPersons(ALICE));
+    }
+
+    @Test
+    public void getPotentialPersons_nameEditedInAddressBook_followsEdit() {
+        addressBook.addPerson(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        Person bob = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB).build();
+        assertEquals(Collections.singletonList(renamedAlice), addressBook.getPotentialPersons(bob));
+        assertFalse(addressBook.hasPotentialPerson(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build()));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -138,6 +181,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
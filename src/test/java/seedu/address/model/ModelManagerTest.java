@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -11,12 +12,22 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.functions.PersonLevelUpFunction;
+import seedu.address.model.person.level.Level;
 import seedu.address.model.person.predicate.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +99,93 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPersons_validPersons_addsAllPersonsToFilteredList() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_sortedPersonList_keepsEditedPersonSorted() {
+        modelManager.addPersons(Arrays.asList(BENSON, ALICE));
+        modelManager.filterThenSortPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing(person -> person.getName().fullName));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("New address").build();
+
+        modelManager.setPerson(ALICE, editedAlice);
+
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getTransformedPersonList());
+    }
+
+    @Test
+    public void getLessonsForDay_personsAddedToLessons_lessonsInTimeOrder() {
+        modelManager.addPersonToLesson(new PersonBuilder(ALICE).withLessons("monday 1500", "tuesday 1000").build());
+        modelManager.addPersonToLesson(new PersonBuilder(BENSON).withLessons("monday 0900").build());
+
+        assertEquals(Arrays.asList("monday 0900", "monday 1500"), modelManager.getMondayLesson().stream()
+                .map(Lesson::formatString).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("tuesday 1000"), modelManager.getLessonsForDay(Day.of("tuesday")).stream()
+                .map(Lesson::formatString).collect(Collectors.toList()));
+        assertTrue(modelManager.getSundayLesson().isEmpty());
+    }
+
+    @Test
+    public void getLessonsForDay_personRemovedFromLesson_lessonRemoved() {
+        Person alice = new PersonBuilder(ALICE).withLessons("monday 1500").build();
+        modelManager.addPersonToLesson(alice);
+        modelManager.removePersonFromLesson(alice);
+
+        assertTrue(modelManager.getMondayLesson().isEmpty());
+    }
+
+    @Test
+    public void getLessonListForPerson_personEdited_lessonsOfEditedPerson() {
+        Person alice = new PersonBuilder(ALICE).withLessons("tuesday 1000", "monday 1500").build();
+        modelManager.addPersonToLesson(alice);
+        ObservableList<Lesson> aliceLessons = modelManager.getLessonListForPerson(alice);
+        assertEquals(Arrays.asList("monday 1500", "tuesday 1000"), aliceLessons.stream()
+                .map(Lesson::formatString).collect(Collectors.toList()));
+
+        Person editedAlice = new PersonBuilder(alice).withLessons("sunday 0800").build();
+        modelManager.removePersonFromLesson(alice);
+        modelManager.addPersonToLesson(editedAlice);
+
+        assertEquals(Arrays.asList("sunday 0800"), aliceLessons.stream()
+                .map(Lesson::formatString).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void filterIndicesThenTransformPersonList_levelUp_updatesPersonsAndLessons() {
+        Person alice = new PersonBuilder(ALICE).withLessons("monday 1500").build();
+        modelManager.addPersons(Arrays.asList(alice, BENSON));
+        modelManager.addPersonToLesson(alice);
+        long addressBookVersion = modelManager.getAddressBook().getVersion();
+
+        modelManager.filterIndicesThenTransformPersonList(Arrays.asList(Index.fromOneBased(2)),
+                new PersonLevelUpFunction());
+
+        Person leveledAlice = modelManager.getTransformedPersonList().get(0);
+        assertEquals(alice.getId(), leveledAlice.getId());
+        assertEquals(Level.of("sec2"), leveledAlice.getLevel().get());
+        assertEquals(Level.of("sec1"), alice.getLevel().get());
+        assertSame(BENSON, modelManager.getTransformedPersonList().get(1));
+        assertSame(leveledAlice, modelManager.getMondayLesson().get(0).getPerson().iterator().next());
+        assertEquals(addressBookVersion + 1, modelManager.getAddressBook().getVersion());
+    }
+
+    @Test
+    public void filterIndicesThenTransformPersonList_filteredList_transformsShownPersonsOnly() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+
+        modelManager.filterIndicesThenTransformPersonList(Arrays.asList(), new PersonLevelUpFunction());
+
+        assertSame(ALICE, modelManager.getAddressBook().getPersonList().get(0));
+        assertEquals(Level.of("sec4"), modelManager.getAddressBook().getPersonList().get(1).getLevel().get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
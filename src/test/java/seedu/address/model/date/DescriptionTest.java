@@ -1,5 +1,6 @@
 package seedu.address.model.date;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -33,4 +34,12 @@ public class DescriptionTest {
         assertTrue(Description.isValidDescription("1234")); // numbers
         assertTrue(Description.isValidDescription("^")); // non-alphanumeric characters
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        Description description = new Description("Exam");
+        Description differentCaseDescription = new Description("eXAM");
+        assertTrue(description.equals(differentCaseDescription));
+        assertEquals(description.hashCode(), differentCaseDescription.hashCode());
+    }
 }
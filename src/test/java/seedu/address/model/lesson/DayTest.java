@@ -1,6 +1,8 @@
 package seedu.address.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -38,4 +40,18 @@ public class DayTest {
         assertTrue(Day.isValidDay("Monday")); // capitalized first letter
         assertTrue(Day.isValidDay("MONDAY")); // uppercase
     }
+
+    @Test
+    public void compareTo() {
+        assertTrue(new Day("monday").compareTo(new Day("tuesday")) < 0);
+        assertTrue(new Day("sunday").compareTo(new Day("saturday")) > 0);
+        assertEquals(0, new Day("Friday").compareTo(new Day("friday")));
+    }
+
+    @Test
+    public void of_sameDay_returnsSharedInstance() {
+        assertSame(Day.of("monday"), Day.of("Monday"));
+        assertEquals(new Day("monday"), Day.of("monday"));
+        assertThrows(IllegalArgumentException.class, () -> Day.of("mon"));
+    }
 }
@@ -1,11 +1,23 @@
 package seedu.address.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
 public class LessonTest {
 
     @Test
@@ -31,4 +43,62 @@ public class LessonTest {
         // valid lesson
         assertTrue(Lesson.isValidLesson(new String[] {"tuesday", "2000"})); // array contains 2 values
     }
+
+    @Test
+    public void containsPerson_editedPerson_returnsTrue() {
+        Lesson lesson = new Lesson("monday 1300");
+        lesson.addPerson(ALICE);
+        assertTrue(lesson.containsPerson(new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build()));
+        assertFalse(lesson.containsPerson(BENSON));
+    }
+
+    @Test
+    public void containsPerson_differentPersonWithSamePhone_returnsFalse() {
+        Lesson lesson = new Lesson("monday 1300");
+        lesson.addPerson(ALICE);
+        assertFalse(lesson.containsPerson(new PersonBuilder().withPhone(ALICE.getPhone().value).build()));
+    }
+
+    @Test
+    public void addPerson_editedPerson_keepsExistingPerson() {
+        Lesson lesson = new Lesson("monday 1300");
+        lesson.addPerson(ALICE);
+        lesson.addPerson(new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertEquals(Collections.singletonList(ALICE), new ArrayList<>(lesson.getPerson()));
+    }
+
+    @Test
+    public void removePerson_editedPerson_removesPerson() {
+        Lesson lesson = new Lesson("monday 1300");
+        lesson.addPerson(ALICE);
+        lesson.addPerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        lesson.removePerson(editedAlice);
+        assertFalse(lesson.containsPerson(ALICE));
+        assertEquals(1, lesson.getNumberOfPerson());
+    }
+
+    @Test
+    public void compareTo_unsortedLessons_sortsByDayThenTime() {
+        List<Lesson> lessons = new ArrayList<>(Arrays.asList(new Lesson("sunday 0000"), new Lesson("monday 2359"),
+                new Lesson("tuesday 0000"), new Lesson("monday 0959"), new Lesson("monday 1000")));
+        Collections.sort(lessons);
+        assertEquals(Arrays.asList(new Lesson("monday 0959"), new Lesson("monday 1000"), new Lesson("monday 2359"),
+                new Lesson("tuesday 0000"), new Lesson("sunday 0000")), lessons);
+    }
+
+    @Test
+    public void equals() {
+        Lesson lesson = new Lesson("monday 1300");
+
+        // same day and time -> returns true
+        assertTrue(lesson.equals(new Lesson("Monday 1300")));
+        assertEquals(lesson.hashCode(), new Lesson("Monday 1300").hashCode());
+
+        // different time -> returns false
+        assertFalse(lesson.equals(new Lesson("monday 1301")));
+
+        // different day -> returns false
+        assertFalse(lesson.equals(new Lesson("tuesday 1300")));
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonLessonIndexTest {
+
+    private final PersonLessonIndex personLessonIndex = new PersonLessonIndex();
+
+    @Test
+    public void getLessons_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> personLessonIndex.getLessons(null));
+    }
+
+    @Test
+    public void add_lessonsOutOfOrder_orderedByDayAndTime() {
+        Lesson tuesday = new Lesson("tuesday 0900");
+        Lesson mondayLate = new Lesson("monday 1500");
+        Lesson mondayEarly = new Lesson("monday 1000");
+
+        personLessonIndex.add(ALICE, tuesday);
+        personLessonIndex.add(ALICE, mondayLate);
+        personLessonIndex.add(ALICE, mondayEarly);
+
+        assertEquals(Arrays.asList(mondayEarly, mondayLate, tuesday), personLessonIndex.getLessons(ALICE));
+        assertTrue(personLessonIndex.getLessons(BENSON).isEmpty());
+    }
+
+    @Test
+    public void add_afterGetLessons_updatesReturnedList() {
+        Lesson monday = new Lesson("monday 1000");
+        personLessonIndex.add(ALICE, monday);
+        ObservableList<Lesson> lessons = personLessonIndex.getLessons(ALICE);
+        Lesson tuesday = new Lesson("tuesday 0900");
+
+        personLessonIndex.add(ALICE, tuesday);
+
+        assertEquals(Arrays.asList(monday, tuesday), lessons);
+    }
+
+    @Test
+    public void getLessons_personWithoutLessons_notAddedToIndex() {
+        assertTrue(personLessonIndex.getLessons(ALICE).isEmpty());
+        assertEquals(0, personLessonIndex.size());
+    }
+
+    @Test
+    public void removePerson_noLessonsLeft_forgetsPerson() {
+        Lesson lesson = new Lesson("monday 1000");
+        personLessonIndex.add(ALICE, lesson);
+        personLessonIndex.add(BENSON, lesson);
+        personLessonIndex.remove(ALICE, lesson);
+
+        personLessonIndex.removePerson(ALICE);
+        personLessonIndex.removePerson(BENSON);
+
+        assertEquals(1, personLessonIndex.size());
+        assertEquals(Arrays.asList(lesson), personLessonIndex.getLessons(BENSON));
+    }
+
+    @Test
+    public void add_editedPersonWithSameId_sharesLessons() {
+        Lesson lesson = new Lesson("monday 1000");
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("New address").build();
+
+        personLessonIndex.add(ALICE, lesson);
+
+        assertEquals(Arrays.asList(lesson), personLessonIndex.getLessons(editedAlice));
+    }
+
+    @Test
+    public void remove_lessonAtSameSlot_removesLesson() {
+        personLessonIndex.add(ALICE, new Lesson("monday 1000"));
+        Lesson tuesday = new Lesson("tuesday 0900");
+        personLessonIndex.add(ALICE, tuesday);
+
+        personLessonIndex.remove(ALICE, new Lesson("monday 1000"));
+
+        assertEquals(Arrays.asList(tuesday), personLessonIndex.getLessons(ALICE));
+    }
+
+    @Test
+    public void setLessons_replacesIndex() {
+        personLessonIndex.add(ALICE, new Lesson("monday 1000"));
+        ObservableList<Lesson> aliceLessons = personLessonIndex.getLessons(ALICE);
+        Lesson lesson = new Lesson("friday 1200", new HashSet<>(Arrays.asList(BENSON)));
+
+        personLessonIndex.setLessons(Arrays.asList(lesson));
+
+        assertTrue(aliceLessons.isEmpty());
+        assertSame(lesson, personLessonIndex.getLessons(BENSON).get(0));
+        assertEquals(1, personLessonIndex.size());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -38,4 +40,18 @@ public class TimeTest {
         assertTrue(Time.isValidTime("0000")); // extreme value
         assertTrue(Time.isValidTime("2359")); // extreme value
     }
+
+    @Test
+    public void compareTo() {
+        assertTrue(new Time("0959").compareTo(new Time("1000")) < 0);
+        assertTrue(new Time("2359").compareTo(new Time("0000")) > 0);
+        assertEquals(0, new Time("1300").compareTo(new Time("1300")));
+    }
+
+    @Test
+    public void of_sameTime_returnsSharedInstance() {
+        assertSame(Time.of("1300"), Time.of("1300"));
+        assertEquals(new Time("2359"), Time.of("2359"));
+        assertThrows(IllegalArgumentException.class, () -> Time.of("2400"));
+    }
 }
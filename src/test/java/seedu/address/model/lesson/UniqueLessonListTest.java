@@ -0,0 +1,98 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lesson.exceptions.DuplicateLessonException;
+import seedu.address.model.lesson.exceptions.LessonNotFoundException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class UniqueLessonListTest {
+
+    private final UniqueLessonList uniqueLessonList = new UniqueLessonList();
+
+    @Test
+    public void contains_lessonWithSameDayAndTime_returnsTrue() {
+        uniqueLessonList.add(new Lesson("monday 1300"));
+        assertTrue(uniqueLessonList.contains(new Lesson("Monday 1300")));
+        assertFalse(uniqueLessonList.contains(new Lesson("monday 1400")));
+        assertFalse(uniqueLessonList.contains(new Lesson("tuesday 1300")));
+    }
+
+    @Test
+    public void add_duplicateLesson_throwsDuplicateLessonException() {
+        uniqueLessonList.add(new Lesson("monday 1300"));
+        assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.add(new Lesson("monday 1300")));
+    }
+
+    @Test
+    public void getLesson_lessonNotInList_throwsLessonNotFoundException() {
+        assertThrows(LessonNotFoundException.class, () -> uniqueLessonList.getLesson(new Lesson("monday 1300")));
+    }
+
+    @Test
+    public void getLesson_lessonWithSameDayAndTime_returnsLessonInList() {
+        Lesson lesson = new Lesson("monday 1300");
+        uniqueLessonList.add(lesson);
+        assertSame(lesson, uniqueLessonList.getLesson(new Lesson("monday 1300")));
+    }
+
+    @Test
+    public void addPersonToLesson_sharedLesson_addsPersonToExistingLesson() {
+        Lesson lesson = new Lesson("monday 1300");
+        uniqueLessonList.add(lesson);
+        Person person = new PersonBuilder(ALICE).withLessons("monday 1300", "friday 0900").build();
+        uniqueLessonList.addPersonToLesson(person);
+
+        assertTrue(lesson.containsPerson(person));
+        assertTrue(uniqueLessonList.getLesson(new Lesson("friday 0900")).containsPerson(person));
+        assertEquals(2, uniqueLessonList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void removePersonFromLesson_lastPersonInLesson_removesLesson() {
+        Person person = new PersonBuilder(ALICE).withLessons("monday 1300").build();
+        uniqueLessonList.addPersonToLesson(person);
+        uniqueLessonList.removePersonFromLesson(person);
+
+        assertFalse(uniqueLessonList.contains(new Lesson("monday 1300")));
+        assertEquals(Collections.emptyList(), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setLesson_differentSlot_updatesSlotLookup() {
+        Lesson target = new Lesson("monday 1300");
+        Lesson editedLesson = new Lesson("sunday 2359");
+        uniqueLessonList.add(target);
+        uniqueLessonList.setLesson(target, editedLesson);
+
+        assertFalse(uniqueLessonList.contains(target));
+        assertSame(editedLesson, uniqueLessonList.getLesson(new Lesson("sunday 2359")));
+    }
+
+    @Test
+    public void setLessons_list_replacesSlotLookup() {
+        uniqueLessonList.add(new Lesson("monday 1300"));
+        Lesson lesson = new Lesson("wednesday 0000");
+        uniqueLessonList.setLessons(Arrays.asList(lesson, new Lesson("wednesday 0001")));
+
+        assertFalse(uniqueLessonList.contains(new Lesson("monday 1300")));
+        assertSame(lesson, uniqueLessonList.getLesson(new Lesson("wednesday 0000")));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueLessonList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    @Test
+    public void generate_calledTwice_returnsDifferentIds() {
+        assertNotEquals(PersonId.generate(), PersonId.generate());
+    }
+
+    @Test
+    public void generate_afterStoredId_doesNotClash() {
+        PersonId storedId = PersonId.of(PersonId.generate().value + 100);
+        assertTrue(PersonId.generate().value > storedId.value);
+    }
+
+    @Test
+    public void ofPosition_negativePosition_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersonId.ofPosition(-1));
+    }
+
+    @Test
+    public void ofPosition_samePosition_returnsSameNegativeId() {
+        PersonId id = PersonId.ofPosition(0);
+        assertEquals(id, PersonId.ofPosition(0));
+        assertTrue(id.value < 0);
+        assertNotEquals(id, PersonId.ofPosition(1));
+        assertTrue(PersonId.ofPosition(Integer.MAX_VALUE).value < 0);
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = PersonId.of(5);
+
+        // same values -> returns true
+        assertTrue(id.equals(PersonId.of(5)));
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertNotEquals(null, id);
+
+        // different values -> returns false
+        assertNotEquals(PersonId.of(6), id);
+    }
+}
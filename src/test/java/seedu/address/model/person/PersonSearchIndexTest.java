@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.subject.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void search_nameKeywords_ignoresCaseAndMergesPostings() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        Set<PersonId> result = index.search(Arrays.asList("aLiCe", "MEIER"), null, null);
+        assertEquals(Set.of(ALICE.getId(), BENSON.getId(), DANIEL.getId()), result);
+    }
+
+    @Test
+    public void search_partialWord_returnsEmptySet() {
+        index.add(ALICE);
+        assertTrue(index.search(Collections.singletonList("Ali"), null, null).isEmpty());
+    }
+
+    @Test
+    public void search_schoolAndSubjectKeywords_returnsUnion() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        Set<PersonId> result = index.search(null, Collections.singletonList("jurong"),
+                Collections.singletonList(Subject.of("math")));
+        assertEquals(Set.of(ALICE.getId(), BENSON.getId()), result);
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        index.remove(ALICE);
+        assertTrue(index.search(Collections.singletonList("alice"), Collections.singletonList("jurong"),
+                Collections.singletonList(Subject.of("phys"))).isEmpty());
+    }
+
+    @Test
+    public void removeThenAdd_editedPerson_foundByNewWordsOnly() {
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+        assertTrue(index.search(Collections.singletonList("alice"), null, null).isEmpty());
+        assertEquals(Set.of(ALICE.getId()), index.search(Collections.singletonList("alicia"), null, null));
+        assertEquals(editedAlice, index.getPerson(ALICE.getId()));
+    }
+
+    @Test
+    public void getPerson_removedPerson_returnsNull() {
+        index.add(ALICE);
+        index.remove(ALICE);
+        assertEquals(null, index.getPerson(ALICE.getId()));
+    }
+}
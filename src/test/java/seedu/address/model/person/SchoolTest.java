@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -37,4 +39,11 @@ public class SchoolTest {
         assertTrue(School.isValidSchool("Best School")); // with capital letters
         assertTrue(School.isValidSchool("David Roger Jackson Ray Secondary School")); // long school names
     }
+
+    @Test
+    public void of_sameSchoolName_returnsSharedInstance() {
+        assertSame(School.of("Jurong West Secondary School"), School.of("Jurong West Secondary School"));
+        assertEquals(new School("Raffles Institution"), School.of("Raffles Institution"));
+        assertThrows(IllegalArgumentException.class, () -> School.of(" "));
+    }
 }
@@ -4,17 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_CHEM;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -102,6 +109,23 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_targetPersonWithSameIdentityNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +151,51 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_existingPersonInMiddle_keepsLaterPersonsReachable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(BENSON);
+        assertFalse(uniquePersonList.contains(BENSON));
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.remove(ALICE);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_mostPersons_keepsRemainingPersonsReachable() {
+        List<Person> persons = new ArrayList<>();
+        PersonBuilder personBuilder = new PersonBuilder();
+        for (int i = 0; i < 50; i++) {
+            Person person = personBuilder.withPhone(String.valueOf(10000000 + i)).build();
+            persons.add(person);
+            uniquePersonList.add(person);
+        }
+        for (int i = 0; i < 50; i += 5) {
+            for (int j = i + 1; j < i + 5; j++) {
+                uniquePersonList.remove(persons.get(j));
+            }
+        }
+
+        List<Person> remainingPersons = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(10, remainingPersons.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(persons.get(i * 5), remainingPersons.get(i));
+            assertEquals(i, uniquePersonList.indexOf(persons.get(i * 5)));
+        }
+        assertEquals(-1, uniquePersonList.indexOf(persons.get(1)));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +223,7 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -162,6 +232,84 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicatePersons_reportsEveryDuplicatePhone() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BENSON, ALICE, CARL, BENSON, ALICE);
+        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons with phone "
+                + "number(s): " + ALICE.getPhone() + ", " + BENSON.getPhone(), ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_manyPersons_replacesOwnListWithProvidedList() {
+        int size = 100;
+        List<Person> personList = new ArrayList<>(size);
+        PersonBuilder personBuilder = new PersonBuilder();
+        for (int i = 0; i < size; i++) {
+            personList.add(personBuilder.withPhone(String.valueOf(10000000 + i)).build());
+        }
+        uniquePersonList.setPersons(personList);
+        assertEquals(size, uniquePersonList.asUnmodifiableObservableList().size());
+        assertTrue(uniquePersonList.contains(personList.get(size - 1)));
+
+        personList.add(personList.get(0));
+        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons with phone "
+                + "number(s): 10000000", () -> uniquePersonList.setPersons(personList));
+        assertEquals(size, uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void transformPersons_excludedPositions_transformsOtherPersonsOnly() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        BitSet excludedPositions = new BitSet();
+        excludedPositions.set(1);
+
+        Map<Person, Person> replacedPersons = uniquePersonList.transformPersons(person ->
+                new PersonBuilder(person).withAddress(VALID_ADDRESS_BOB).build(), excludedPositions);
+
+        List<Person> expectedPersons = Arrays.asList(new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build(),
+                BENSON, new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build());
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.indexOf(expectedPersons.get(2)));
+        assertEquals(Arrays.asList(ALICE, CARL), new ArrayList<>(replacedPersons.keySet()));
+        assertEquals(Arrays.asList(expectedPersons.get(0), expectedPersons.get(2)),
+                new ArrayList<>(replacedPersons.values()));
+    }
+
+    @Test
+    public void transformPersons_severalPersonsReplaced_firesSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.transformPersons(person -> new PersonBuilder(person).withAddress(VALID_ADDRESS_BOB).build(),
+                new BitSet());
+
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void transformPersons_nameChanged_updatesNameIndex() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+
+        uniquePersonList.transformPersons(person -> new PersonBuilder(person).withName(VALID_NAME_BOB).build(),
+                new BitSet());
+
+        assertTrue(uniquePersonList.potentialContains(new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build()));
+        assertFalse(uniquePersonList.potentialContains(new PersonBuilder(CARL).withName(ALICE.getName().fullName)
+                .build()));
+    }
+
+    @Test
+    public void transformPersons_duplicateResult_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.transformPersons(person -> ALICE,
+                new BitSet()));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
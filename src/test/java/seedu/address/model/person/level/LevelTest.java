@@ -0,0 +1,73 @@
+package seedu.address.model.person.level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LevelTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Level.of(null));
+    }
+
+    @Test
+    public void of_invalidLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Level.of("sec6"));
+    }
+
+    @Test
+    public void of_sameLevelInDifferentCase_returnsSharedLevel() {
+        assertSame(Level.of("jc1"), Level.of(" JC1 "));
+    }
+
+    @Test
+    public void isValidLevel() {
+        // null level
+        assertThrows(NullPointerException.class, () -> Level.isValidLevel(null));
+
+        // invalid levels
+        assertFalse(Level.isValidLevel("")); // empty string
+        assertFalse(Level.isValidLevel("pri7")); // level that does not exist
+        assertFalse(Level.isValidLevel("primary 1")); // full level
+
+        // valid levels
+        assertTrue(Level.isValidLevel("pri1"));
+        assertTrue(Level.isValidLevel("Sec5")); // with capital letters
+        assertTrue(Level.isValidLevel("grad"));
+        assertTrue(Level.isValidLevel(" jc1 ")); // with surrounding spaces, as accepted by Level#of
+    }
+
+    @Test
+    public void getFullLevel() {
+        assertEquals("Primary 1", Level.of("pri1").getFullLevel());
+        assertEquals("Junior College 2", Level.of("jc2").getFullLevel());
+        assertEquals("Graduated", Level.of("grad").getFullLevel());
+    }
+
+    @Test
+    public void next() {
+        assertSame(Level.of("pri2"), Level.of("pri1").next());
+        assertSame(Level.of("grad"), Level.of("jc2").next());
+        assertSame(Level.of("grad"), Level.of("grad").next()); // graduated students stay graduated
+    }
+
+    @Test
+    public void previous() {
+        assertSame(Level.of("jc1"), Level.of("jc2").previous());
+        assertSame(Level.of("jc2"), Level.of("grad").previous());
+        assertSame(Level.of("pri1"), Level.of("pri1").previous()); // pri1 is the lowest level
+    }
+
+    @Test
+    public void compareTo_levelsInGradeOrder() {
+        assertTrue(Level.of("pri6").compareTo(Level.of("sec1")) < 0);
+        assertTrue(Level.of("sec5").compareTo(Level.of("jc1")) < 0);
+        assertTrue(Level.of("grad").compareTo(Level.of("jc2")) > 0);
+        assertEquals(0, Level.of("sec3").compareTo(Level.of("SEC3")));
+    }
+}
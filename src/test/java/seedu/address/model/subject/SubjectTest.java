@@ -1,7 +1,13 @@
 package seedu.address.model.subject;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class SubjectTest {
@@ -23,4 +29,25 @@ public class SubjectTest {
         assertThrows(NullPointerException.class, () -> Subject.isValidSubjectName(null));
     }
 
+    @Test
+    public void of_availableSubject_returnsSharedInstance() {
+        assertSame(Subject.of("math"), Subject.of("math"));
+        assertEquals(new Subject("math"), Subject.of("math"));
+        assertThrows(IllegalArgumentException.class, () -> Subject.of("maths"));
+    }
+
+    @Test
+    public void toMask() {
+        assertEquals(0, Subject.toMask(Collections.emptyList()));
+        assertEquals(AvailableSubject.bio.getBit() | AvailableSubject.tam.getBit(),
+                Subject.toMask(Arrays.asList(Subject.of("tam"), new Subject("BIO"))));
+    }
+
+    @Test
+    public void compareTo_differentSubjects_followsAlphabeticalOrder() {
+        assertTrue(Subject.of("chem").compareTo(Subject.of("cn")) < 0);
+        assertTrue(Subject.of("math").compareTo(Subject.of("mal")) > 0);
+        assertEquals(0, new Subject("MATH").compareTo(Subject.of("math")));
+    }
+
 }
@@ -0,0 +1,63 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeLogTest {
+
+    private final ChangeLog<Integer, String> changeLog = new ChangeLog<>();
+
+    private static List<String> describe(List<ChangeLog.Change<String>> changes) {
+        return changes.stream()
+                .map(change -> (change.isRemoval() ? "removed " : "put ") + change.getRecord())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void getChangesSince_noChanges_empty() {
+        assertTrue(changeLog.getChangesSince(changeLog.getMark()).get().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_sameKeyChangedTwice_latestChangeOnly() {
+        changeLog.recordChange(1, "a");
+        ChangeLog.Mark mark = changeLog.getMark();
+        changeLog.recordChange(2, "b");
+        changeLog.recordChange(3, "c");
+        changeLog.recordChange(2, "b2");
+        changeLog.recordRemoval(3, "c");
+
+        assertEquals(List.of("put b2", "removed c"), describe(changeLog.getChangesSince(mark).get()));
+    }
+
+    @Test
+    public void getChangesSince_markBeforeReset_empty() {
+        ChangeLog.Mark mark = changeLog.getMark();
+        changeLog.recordChange(1, "a");
+        changeLog.reset();
+        ChangeLog.Mark markAfterReset = changeLog.getMark();
+        changeLog.recordChange(2, "b");
+
+        assertFalse(changeLog.getChangesSince(mark).isPresent());
+        assertEquals(List.of("put b"), describe(changeLog.getChangesSince(markAfterReset).get()));
+    }
+
+    @Test
+    public void getChangesSince_markOfOtherLog_empty() {
+        assertFalse(changeLog.getChangesSince(new ChangeLog<Integer, String>().getMark()).isPresent());
+    }
+
+    @Test
+    public void getMark_noChangeInBetween_equalMarks() {
+        assertEquals(changeLog.getMark(), changeLog.getMark());
+        ChangeLog.Mark mark = changeLog.getMark();
+        changeLog.recordChange(1, "a");
+        assertFalse(mark.equals(changeLog.getMark()));
+    }
+}
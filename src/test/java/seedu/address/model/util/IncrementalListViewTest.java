@@ -0,0 +1,308 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IncrementalListViewTest {
+
+    private static final Predicate<Integer> IS_EVEN = x -> x % 2 == 0;
+
+    private ObservableList<Integer> source;
+    private IncrementalListView<Integer, Integer> view;
+    private List<String> changes;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(5, 2, 8, 1, 4);
+        view = new IncrementalListView<>(source, Function.identity());
+        changes = new ArrayList<>();
+        view.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    changes.add("permutated " + change.getFrom() + "-" + change.getTo());
+                } else if (change.wasUpdated()) {
+                    changes.add("updated " + change.getFrom());
+                } else if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getFrom() + " " + change.getRemoved());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getFrom());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getFrom() + " " + change.getRemoved());
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the elements of {@code source} that {@code view} is expected to hold.
+     */
+    private static List<Integer> expectedView(List<Integer> source, Predicate<? super Integer> predicate,
+            Comparator<? super Integer> comparator) {
+        return source.stream()
+                .filter(predicate == null ? x -> true : predicate)
+                .sorted(comparator == null ? (x, y) -> 0 : comparator)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void constructor_nullSource_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IncrementalListView<>(null, Function.identity()));
+    }
+
+    @Test
+    public void constructor_noPredicateOrComparator_sourceOrder() {
+        assertEquals(Arrays.asList(5, 2, 8, 1, 4), view);
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(5));
+    }
+
+    @Test
+    public void remove_unmodifiableView_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    @Test
+    public void sourceAdd_sorted_addsAtSortedIndexOnly() {
+        view.setComparator(Comparator.naturalOrder());
+        changes.clear();
+
+        source.add(3);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 8), view);
+        assertEquals(Arrays.asList("added 2"), changes);
+    }
+
+    @Test
+    public void sourceAdd_notMatchingPredicate_noChange() {
+        view.setPredicate(IS_EVEN);
+        changes.clear();
+
+        source.add(7);
+
+        assertEquals(Arrays.asList(2, 8, 4), view);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceRemove_sorted_removesElementOnly() {
+        view.setComparator(Comparator.naturalOrder());
+        changes.clear();
+
+        source.remove(Integer.valueOf(4));
+
+        assertEquals(Arrays.asList(1, 2, 5, 8), view);
+        assertEquals(Arrays.asList("removed 2 [4]"), changes);
+    }
+
+    @Test
+    public void sourceSet_sameIndexInView_replacesElementOnly() {
+        view.setComparator(Comparator.naturalOrder());
+        changes.clear();
+
+        source.set(2, 7);
+
+        assertEquals(Arrays.asList(1, 2, 4, 5, 7), view);
+        assertEquals(Arrays.asList("replaced 4 [8]"), changes);
+    }
+
+    @Test
+    public void sourceSet_movedInView_keepsSortedOrder() {
+        view.setComparator(Comparator.naturalOrder());
+
+        source.set(2, 0);
+
+        assertEquals(Arrays.asList(0, 1, 2, 4, 5), view);
+    }
+
+    @Test
+    public void sourceSet_noLongerMatching_removesElement() {
+        view.setPredicate(IS_EVEN);
+        changes.clear();
+
+        source.set(1, 3);
+
+        assertEquals(Arrays.asList(8, 4), view);
+        assertEquals(Arrays.asList("removed 0 [2]"), changes);
+    }
+
+    @Test
+    public void sourceSetAll_replacesView() {
+        view.setPredicate(IS_EVEN);
+
+        source.setAll(6, 7, 10);
+
+        assertEquals(Arrays.asList(6, 10), view);
+    }
+
+    @Test
+    public void sourceSetAll_sameSize_replacesChangedElementsOnly() {
+        List<Integer> replacement = new ArrayList<>(source);
+        replacement.set(2, 3);
+        source.setAll(replacement);
+
+        assertEquals(Arrays.asList(5, 2, 3, 1, 4), view);
+        assertEquals(Arrays.asList("replaced 2 [8]"), changes);
+    }
+
+    @Test
+    public void sourceAdd_largeSource_comparesLogarithmicallyManyElements() {
+        int[] comparisons = new int[1];
+        ObservableList<Integer> largeSource = FXCollections.observableArrayList();
+        for (int i = 0; i < 10000; i++) {
+            largeSource.add(i);
+        }
+        IncrementalListView<Integer, Integer> largeView = new IncrementalListView<>(largeSource, Function.identity());
+        // every element ties, so each is placed by its source position
+        largeView.setComparator((x, y) -> {
+            comparisons[0]++;
+            return 0;
+        });
+        comparisons[0] = 0;
+
+        largeSource.add(5000, -1);
+
+        assertEquals(Integer.valueOf(-1), largeView.get(5000));
+        assertTrue(comparisons[0] < 1000, "compared " + comparisons[0] + " elements");
+    }
+
+    @Test
+    public void sourceAdd_repeatedlyBetweenSameElements_keepsSourceOrder() {
+        for (int i = 0; i < 50; i++) {
+            source.add(1, 100 + i);
+        }
+
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setPredicate_reportsChangedElementsOnly() {
+        view.setPredicate(IS_EVEN);
+        assertEquals(Arrays.asList(2, 8, 4), view);
+        changes.clear();
+
+        view.setPredicate(x -> x != 5 && x != 8);
+
+        assertEquals(Arrays.asList(2, 1, 4), view);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void setPredicate_matchingPositions_visitsViewAndMatchingElementsOnly() {
+        int[] tests = new int[1];
+        ObservableList<Integer> largeSource = FXCollections.observableArrayList();
+        for (int i = 0; i < 10000; i++) {
+            largeSource.add(i);
+        }
+        IncrementalListView<Integer, Integer> largeView = new IncrementalListView<>(largeSource, Function.identity());
+        largeView.setPredicate(x -> x < 3);
+        BitSet matchingPositions = new BitSet();
+        matchingPositions.set(2);
+        matchingPositions.set(7000);
+
+        largeView.setPredicate(x -> {
+            tests[0]++;
+            return x == 2 || x == 7000;
+        }, matchingPositions);
+
+        assertEquals(Arrays.asList(2, 7000), largeView);
+        assertTrue(tests[0] < 100, "tested " + tests[0] + " elements");
+        largeSource.set(7000, 7000);
+        assertEquals(Arrays.asList(2, 7000), largeView);
+    }
+
+    @Test
+    public void setPredicate_matchingPositionsOfMostElements_reportsChangedElementsOnly() {
+        view.setPredicate(IS_EVEN);
+        changes.clear();
+        BitSet matchingPositions = new BitSet();
+        matchingPositions.set(1, 4);
+
+        view.setPredicate(x -> x != 5 && x != 4, matchingPositions);
+
+        assertEquals(Arrays.asList(2, 8, 1), view);
+        assertEquals(Arrays.asList("added 2", "removed 3 [4]"), changes);
+    }
+
+    @Test
+    public void setPredicate_samePredicate_noChange() {
+        view.setPredicate(IS_EVEN);
+        changes.clear();
+
+        view.setPredicate(IS_EVEN);
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setComparator_reportsPermutation() {
+        view.setComparator(Comparator.naturalOrder());
+
+        assertEquals(Arrays.asList(1, 2, 4, 5, 8), view);
+        assertEquals(Arrays.asList("permutated 0-5"), changes);
+
+        view.setComparator(null);
+        assertEquals(Arrays.asList(5, 2, 8, 1, 4), view);
+    }
+
+    @Test
+    public void projection_appliedToShownElements() {
+        IncrementalListView<Integer, String> projectedView = new IncrementalListView<>(source, x -> "#" + x);
+        projectedView.setPredicate(IS_EVEN);
+        projectedView.setComparator(Comparator.reverseOrder());
+
+        source.add(6);
+
+        assertEquals(Arrays.asList("#8", "#6", "#4", "#2"), projectedView);
+    }
+
+    @Test
+    public void randomChanges_matchesRecomputedView() {
+        Random random = new Random(2103);
+        List<Predicate<Integer>> predicates = Arrays.asList(null, IS_EVEN, x -> x % 3 != 0);
+        List<Comparator<Integer>> comparators = Arrays.asList(null, Comparator.naturalOrder(),
+                Comparator.comparing(x -> x % 5));
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(11);
+            if (operation < 4 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            } else if (operation < 6) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation < 8) {
+                source.set(random.nextInt(source.size()), random.nextInt(100));
+            } else if (operation == 8) {
+                List<Integer> replacement = new ArrayList<>(source);
+                if (!replacement.isEmpty()) {
+                    replacement.set(random.nextInt(replacement.size()), random.nextInt(100));
+                }
+                source.setAll(replacement);
+            } else if (operation == 9) {
+                view.setPredicate(predicates.get(random.nextInt(predicates.size())));
+            } else {
+                view.setComparator(comparators.get(random.nextInt(comparators.size())));
+            }
+            assertEquals(expectedView(source, view.getPredicate(), view.getComparator()), view);
+        }
+    }
+}
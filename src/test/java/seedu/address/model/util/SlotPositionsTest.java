@@ -0,0 +1,68 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SlotPositionsTest {
+
+    @Test
+    public void addSlot_emptySlots_returnsConsecutiveSlots() {
+        SlotPositions slotPositions = new SlotPositions();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, slotPositions.addSlot());
+            assertEquals(i, slotPositions.positionOf(i));
+        }
+    }
+
+    @Test
+    public void freeSlot_slotInMiddle_movesLaterSlotsForward() {
+        SlotPositions slotPositions = new SlotPositions();
+        for (int i = 0; i < 5; i++) {
+            slotPositions.addSlot();
+        }
+        slotPositions.freeSlot(1);
+        slotPositions.freeSlot(3);
+
+        assertEquals(0, slotPositions.positionOf(0));
+        assertEquals(1, slotPositions.positionOf(2));
+        assertEquals(2, slotPositions.positionOf(4));
+        assertEquals(5, slotPositions.addSlot());
+        assertEquals(3, slotPositions.positionOf(5));
+        assertEquals(2, slotPositions.getFreedSlotCount());
+    }
+
+    @Test
+    public void clear_freedSlots_startsFromSlotZero() {
+        SlotPositions slotPositions = new SlotPositions();
+        slotPositions.addSlot();
+        slotPositions.freeSlot(slotPositions.addSlot());
+        slotPositions.clear();
+
+        assertEquals(0, slotPositions.getFreedSlotCount());
+        assertEquals(0, slotPositions.addSlot());
+        assertEquals(0, slotPositions.positionOf(0));
+    }
+
+    @Test
+    public void positionOf_randomAddsAndFrees_matchesList() {
+        Random random = new Random(0);
+        SlotPositions slotPositions = new SlotPositions();
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            if (slots.isEmpty() || random.nextInt(3) > 0) {
+                slots.add(slotPositions.addSlot());
+            } else {
+                slotPositions.freeSlot(slots.remove(random.nextInt(slots.size())));
+            }
+        }
+
+        for (int position = 0; position < slots.size(); position++) {
+            assertEquals(position, slotPositions.positionOf(slots.get(position)));
+        }
+    }
+}
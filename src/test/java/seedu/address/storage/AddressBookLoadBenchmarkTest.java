@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times loading address books of up to 100000 students, from their saved form into the model as on startup.
+ * This is tagged as a benchmark so that it only runs with {@code gradlew benchmark}, and not with the tests.
+ */
+@Tag("benchmark")
+public class AddressBookLoadBenchmarkTest {
+
+    private static final int[] SIZES = {10000, 50000, 100000};
+    private static final int RUNS_PER_SIZE = 3;
+
+    /** How much slower each student may load in the largest book than in the smallest, allowing for noise. */
+    private static final double MAX_SLOWDOWN_PER_STUDENT = 4;
+
+    @Test
+    public void load_upToHundredThousandStudents_takesLinearTime() throws Exception {
+        double[] nanosPerStudent = new double[SIZES.length];
+        StringBuilder timings = new StringBuilder();
+        for (int i = 0; i < SIZES.length; i++) {
+            List<JsonAdaptedPerson> persons = createPersons(SIZES[i]);
+            load(persons); // warms up the code being timed
+            long bestNanos = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS_PER_SIZE; run++) {
+                long start = System.nanoTime();
+                load(persons);
+                bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            }
+            nanosPerStudent[i] = (double) bestNanos / SIZES[i];
+            timings.append(String.format("%d students: %d ms; ", SIZES[i], bestNanos / 1000000));
+        }
+
+        double slowdown = nanosPerStudent[SIZES.length - 1] / nanosPerStudent[0];
+        assertTrue(slowdown < MAX_SLOWDOWN_PER_STUDENT, timings.toString());
+    }
+
+    /**
+     * Converts {@code persons} into an address book, and copies it into another as the model does on startup.
+     */
+    private static void load(List<JsonAdaptedPerson> persons) throws Exception {
+        AddressBook addressBook = new JsonSerializableAddressBook(persons).toModelType();
+        assertEquals(persons.size(), new AddressBook(addressBook).getPersonList().size());
+    }
+
+    private static List<JsonAdaptedPerson> createPersons(int size) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(size);
+        PersonBuilder personBuilder = new PersonBuilder();
+        for (int i = 0; i < size; i++) {
+            persons.add(new JsonAdaptedPerson(personBuilder.withName("Student " + i)
+                    .withPhone(String.valueOf(10000000 + i)).build()));
+        }
+        return persons;
+    }
+}
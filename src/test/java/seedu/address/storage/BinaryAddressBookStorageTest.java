@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DatesBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList().get(0).getId(), readBack.getPersonList().get(0).getId());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_duplicateIds_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_otherBookType_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("datesbook.bin");
+        new BinaryDatesBookStorage(filePath).saveDatesBook(new DatesBook());
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("ab.bin"))
+                .saveAddressBook(null));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDates.getTypicalDatesBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalLessonBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.DatesBook;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class DataFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager jsonStorage;
+    private StorageManager binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        jsonStorage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab.json")), userPrefsStorage,
+                new JsonDatesBookStorage(testFolder.resolve("db.json")),
+                new JsonLessonBookStorage(testFolder.resolve("lb.json")));
+        binaryStorage = new StorageManager(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")),
+                userPrefsStorage, new BinaryDatesBookStorage(testFolder.resolve("db.bin")),
+                new BinaryLessonBookStorage(testFolder.resolve("lb.bin")));
+    }
+
+    private void saveTypicalBooks(Storage storage) throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveDatesBook(getTypicalDatesBook());
+        storage.saveLessonBook(getTypicalLessonBook());
+    }
+
+    private void assertTypicalBooks(Storage storage) throws Exception {
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBook));
+        assertEquals(getTypicalDatesBook(), new DatesBook(storage.readDatesBook().get()));
+        assertEquals(getTypicalLessonBook(), new LessonBook(storage.readLessonBook(addressBook).get()));
+    }
+
+    @Test
+    public void getBinaryFilePath_jsonFile_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                DataFileConverter.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                DataFileConverter.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void getSegmentedFilePath_jsonFile_manifestInSegmentsDirectory() {
+        assertEquals(Paths.get("data", "addressbook.segments", "manifest.json"),
+                DataFileConverter.getSegmentedFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        saveTypicalBooks(jsonStorage);
+        DataFileConverter.convert(jsonStorage, binaryStorage);
+        assertTypicalBooks(binaryStorage);
+
+        Files.delete(jsonStorage.getAddressBookFilePath());
+        Files.delete(jsonStorage.getDatesBookFilePath());
+        Files.delete(jsonStorage.getLessonBookFilePath());
+        DataFileConverter.convert(binaryStorage, jsonStorage);
+        assertTypicalBooks(jsonStorage);
+    }
+
+    @Test
+    public void convertIfNewer_targetMissing_converts() throws Exception {
+        saveTypicalBooks(jsonStorage);
+        assertTrue(DataFileConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertTypicalBooks(binaryStorage);
+    }
+
+    @Test
+    public void convertIfNewer_sourceMissing_doesNotConvert() throws Exception {
+        assertFalse(DataFileConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertIfNewer_targetSavedLater_doesNotConvert() throws Exception {
+        saveTypicalBooks(jsonStorage);
+        for (Path jsonFilePath : Arrays.asList(jsonStorage.getAddressBookFilePath(),
+                jsonStorage.getDatesBookFilePath(), jsonStorage.getLessonBookFilePath())) {
+            Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        }
+        binaryStorage.saveAddressBook(new AddressBook());
+
+        assertFalse(DataFileConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(new AddressBook(), new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNewer_sharedFilesSavedLater_comparesOtherFiles() throws Exception {
+        StorageManager segmentedStorage = new StorageManager(
+                new SegmentedAddressBookStorage(testFolder.resolve("ab.segments").resolve("manifest.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonDatesBookStorage(testFolder.resolve("db.json")),
+                new JsonLessonBookStorage(testFolder.resolve("lb.json")));
+        segmentedStorage.saveAddressBook(new AddressBook());
+        Files.setLastModifiedTime(segmentedStorage.getAddressBookFilePath(), FileTime.fromMillis(0));
+        saveTypicalBooks(jsonStorage);
+
+        assertTrue(DataFileConverter.convertIfNewer(Arrays.asList(binaryStorage, jsonStorage), segmentedStorage));
+        assertTypicalBooks(segmentedStorage);
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDates.JURONG_SEC2_EXAM;
+import static seedu.address.testutil.TypicalDates.getTypicalDatesBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalLessonBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DatesBook;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.level.Level;
+import seedu.address.model.util.ChangeLog;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+    private Path addressBookJournalFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonDatesBookStorage(testFolder.resolve("db")),
+                new JsonLessonBookStorage(testFolder.resolve("lb")));
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        storageManager.saveDatesBook(getTypicalDatesBook());
+        storageManager.saveLessonBook(getTypicalLessonBook());
+        addressBookJournalFilePath = JournalStorage.getJournalFilePath(storageManager.getAddressBookFilePath());
+    }
+
+    /**
+     * Returns the address book read by a new {@code JournalStorage}, as would be done on the next launch.
+     */
+    private AddressBook readAddressBookAfterRestart() throws Exception {
+        return new AddressBook(new JournalStorage(storageManager).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToJournalOnly() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        String snapshot = Files.readString(storageManager.getAddressBookFilePath());
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(storageManager.getAddressBookFilePath()));
+        assertEquals(2, Files.readAllLines(addressBookJournalFilePath).size());
+        assertEquals(addressBook, readAddressBookAfterRestart());
+    }
+
+    @Test
+    public void saveAddressBook_changesRecorded_journalsRecordedChangesOnly() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        AddressBook unchangedAddressBook = new AddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        // only the recorded changes are journaled, so the added person is journaled though the persons given lack it
+        storage.saveAddressBook(new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return unchangedAddressBook.getPersonList();
+            }
+
+            @Override
+            public long getVersion() {
+                return addressBook.getVersion();
+            }
+
+            @Override
+            public Optional<ChangeLog.Mark> getChangeMark() {
+                return addressBook.getChangeMark();
+            }
+
+            @Override
+            public Optional<List<ChangeLog.Change<Person>>> getChangesSince(ChangeLog.Mark mark) {
+                return addressBook.getChangesSince(mark);
+            }
+        });
+
+        assertEquals(1, Files.readAllLines(addressBookJournalFilePath).size());
+        assertEquals(addressBook, readAddressBookAfterRestart());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_journalsNothing() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertFalse(Files.exists(addressBookJournalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_levelChanged_journalsPerson() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person person = addressBook.getPersonList().get(0);
+        Level level = person.getLevel().get().next();
+        addressBook.setPerson(person, Level.changeLevel(person, Optional.of(level)));
+
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(level, readAddressBookAfterRestart().getPersonList().get(0).getLevel().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacts() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager, 0);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(addressBookJournalFilePath));
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void compactJournals_journaledChanges_foldedIntoSnapshots() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        DatesBook datesBook = new DatesBook(storage.readDatesBook().get());
+        datesBook.removeImportantDate(JURONG_SEC2_EXAM);
+        storage.saveDatesBook(datesBook);
+
+        JournalStorage.compactJournals(storageManager);
+
+        assertFalse(Files.exists(addressBookJournalFilePath));
+        assertFalse(Files.exists(JournalStorage.getJournalFilePath(storageManager.getDatesBookFilePath())));
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(datesBook, new DatesBook(storageManager.readDatesBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_skipsEntry() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(addressBookJournalFilePath, "{\"key\":\"1\",\"per".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readAddressBookAfterRestart());
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastEntry_appendsOnNewLine() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(addressBookJournalFilePath, "{\"key\":\"1\",\"per".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalStorage restartedStorage = new JournalStorage(storageManager);
+        AddressBook restartedAddressBook = new AddressBook(restartedStorage.readAddressBook().get());
+        restartedAddressBook.removePerson(ALICE);
+        restartedStorage.saveAddressBook(restartedAddressBook);
+
+        assertEquals(2, Files.readAllLines(addressBookJournalFilePath).size());
+        assertEquals(restartedAddressBook, readAddressBookAfterRestart());
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntryBeforeLast_throwsDataConversionException() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        String journal = Files.readString(addressBookJournalFilePath);
+        Files.writeString(addressBookJournalFilePath, journal.replaceFirst("key", "kez") + journal);
+
+        assertThrows(DataConversionException.class, () -> new JournalStorage(storageManager).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_segmentedAddressBook_notJournaled() throws Exception {
+        Path manifestFilePath = testFolder.resolve("ab.segments").resolve("manifest.json");
+        StorageManager segmentedStorage = new StorageManager(new SegmentedAddressBookStorage(manifestFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonDatesBookStorage(testFolder.resolve("db")),
+                new JsonLessonBookStorage(testFolder.resolve("lb")));
+        segmentedStorage.saveAddressBook(getTypicalAddressBook());
+        JournalStorage storage = new JournalStorage(segmentedStorage);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(JournalStorage.getJournalFilePath(manifestFilePath)));
+        assertEquals(addressBook, new AddressBook(segmentedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveDatesBook_afterRead_replayedOnRead() throws Exception {
+        JournalStorage storage = new JournalStorage(storageManager);
+        DatesBook datesBook = new DatesBook(storage.readDatesBook().get());
+        datesBook.removeImportantDate(JURONG_SEC2_EXAM);
+        storage.saveDatesBook(datesBook);
+
+        assertTrue(Files.exists(JournalStorage.getJournalFilePath(storageManager.getDatesBookFilePath())));
+        assertEquals(datesBook, new DatesBook(new JournalStorage(storageManager).readDatesBook().get()));
+    }
+
+    @Test
+    public void saveLessonBook_afterRead_replayedOnRead() throws Exception {
+        Person hoon = new PersonBuilder(HOON).withLessons("monday 1300").build();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(hoon);
+        JournalStorage storage = new JournalStorage(storageManager);
+        LessonBook lessonBook = new LessonBook(storage.readLessonBook(addressBook).get());
+        lessonBook.addPersonToLesson(hoon);
+        storage.saveLessonBook(lessonBook);
+
+        assertTrue(Files.exists(JournalStorage.getJournalFilePath(storageManager.getLessonBookFilePath())));
+        assertEquals(lessonBook, new LessonBook(new JournalStorage(storageManager).readLessonBook(addressBook).get()));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -15,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.School;
 import seedu.address.model.person.level.Level;
@@ -31,6 +33,7 @@ public class JsonAdaptedPersonTest {
     private static final String INVALID_SUBJECT = "#math";
     private static final String INVALID_LESSON = "Monday";
 
+    private static final Long VALID_ID = BENSON.getId().value;
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_PHONE = BENSON.getPhone().toString();
     private static final String VALID_SCHOOL = BENSON.getSchool().get().toString();
@@ -50,12 +53,22 @@ public class JsonAdaptedPersonTest {
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
         JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
         assertEquals(BENSON, person.toModelType());
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_returnsPersonWithGivenId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
+                VALID_ADDRESS, VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
+        assertEquals(BENSON, person.toModelType());
+        assertEquals(PersonId.ofPosition(3), person.toModelType(() -> PersonId.ofPosition(3)).getId());
+        assertNotEquals(person.toModelType().getId(), person.toModelType().getId());
     }
 
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, INVALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
                         VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -63,7 +76,7 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, null, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
                 VALID_ADDRESS, VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -72,7 +85,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidSchool_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, INVALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
                         VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = School.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -80,7 +93,7 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullSchool_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null, VALID_EMAIL,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, null, VALID_EMAIL,
                 VALID_ADDRESS, VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, School.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -89,16 +102,26 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, INVALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
                         VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_phoneTooLong_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(null, VALID_NAME, "12345678901234567890", VALID_SCHOOL, VALID_EMAIL,
+                        VALID_ADDRESS, VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS,
+                        VALID_LESSON);
+        String expectedMessage = Phone.INVALID_LENGTH_MESSAGE;
+        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+    }
+
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, null, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
-                VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, null, VALID_SCHOOL, VALID_EMAIL,
+                VALID_ADDRESS, VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -106,7 +129,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, INVALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, INVALID_EMAIL, VALID_ADDRESS,
                         VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -114,7 +137,7 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, null,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, null,
                 VALID_ADDRESS, VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -123,7 +146,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, INVALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, INVALID_ADDRESS,
                         VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -131,7 +154,7 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
                 null, VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -140,7 +163,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidGuardianName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
                         INVALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -148,7 +171,7 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullGuardianName_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
                 VALID_ADDRESS, null, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -157,7 +180,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidGuardianPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
                         VALID_GUARDIAN_NAME, INVALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -165,7 +188,7 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullGuardianPhone_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
                 VALID_ADDRESS, VALID_GUARDIAN_NAME, null, VALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -174,7 +197,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidLevel_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
                         VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, INVALID_LEVEL, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = Level.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -182,7 +205,7 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullLevel_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL,
                 VALID_ADDRESS, VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, null, VALID_SUBJECTS, VALID_LESSON);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Level.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -193,7 +216,7 @@ public class JsonAdaptedPersonTest {
         List<JsonAdaptedSubject> invalidSubjects = new ArrayList<>(VALID_SUBJECTS);
         invalidSubjects.add(new JsonAdaptedSubject(INVALID_SUBJECT));
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
                         VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, invalidSubjects, VALID_LESSON);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
@@ -203,7 +226,7 @@ public class JsonAdaptedPersonTest {
         List<JsonAdaptedLesson> invalidLesson = new ArrayList<>(VALID_LESSON);
         invalidLesson.add(new JsonAdaptedLesson(INVALID_LESSON));
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_EMAIL, VALID_ADDRESS,
                         VALID_GUARDIAN_NAME, VALID_GUARDIAN_PHONE, VALID_LEVEL, VALID_SUBJECTS, invalidLesson);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +87,20 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_moreThanOneChunkOfPersons_success() throws Exception {
+        Path filePath = testFolder.resolve("LargeAddressBook.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 2500; i++) {
+            original.addPerson(new PersonBuilder().withName("Student " + i).withPhone(String.valueOf(80000000 + i))
+                    .build());
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -2,15 +2,22 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +26,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path PERSONS_WITHOUT_IDS_FILE = TEST_DATA_FOLDER.resolve("personsWithoutIdsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +52,27 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone("99999999").build();
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(
+                Arrays.asList(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(aliceWithOtherPhone)));
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID, ALICE.getId()),
+                addressBook::toModelType);
+    }
+
+    @Test
+    public void readJsonFile_personsWithoutIds_givenDistinctIdsByPosition() throws Exception {
+        List<Person> persons = JsonSerializableAddressBook.readJsonFile(PERSONS_WITHOUT_IDS_FILE).get()
+                .getPersonList();
+
+        // the ids do not depend on the phones, so phones that differ only in leading zeros get different ids
+        assertEquals(Arrays.asList(PersonId.ofPosition(0), PersonId.ofPosition(1), PersonId.ofPosition(2)),
+                persons.stream().map(Person::getId).collect(Collectors.toList()));
+        assertEquals(persons.stream().map(Person::getId).collect(Collectors.toList()),
+                JsonSerializableAddressBook.readJsonFile(PERSONS_WITHOUT_IDS_FILE).get().getPersonList().stream()
+                        .map(Person::getId).collect(Collectors.toList()));
+    }
+
 }
@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.LessonBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonSerializableLessonBookTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableLessonBookTest");
+    private static final Path TYPICAL_LESSONS_FILE = TEST_DATA_FOLDER.resolve("typicalLessonsLessonBook.json");
+    private static final Path LEGACY_TYPICAL_LESSONS_FILE =
+            TEST_DATA_FOLDER.resolve("legacyTypicalLessonsLessonBook.json");
+    private static final Path UNKNOWN_PHONE_FILE = TEST_DATA_FOLDER.resolve("unknownPhoneLessonBook.json");
+
+    @Test
+    public void toModelType_typicalLessonsFile_success() throws Exception {
+        JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_LESSONS_FILE,
+                JsonSerializableLessonBook.class).get();
+        LessonBook lessonBookFromFile = dataFromFile.toModelType(TypicalPersons.getTypicalAddressBook());
+        assertEquals(TypicalPersons.getTypicalLessonBook(), lessonBookFromFile);
+    }
+
+    @Test
+    public void toModelType_legacyTypicalLessonsFile_success() throws Exception {
+        JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(LEGACY_TYPICAL_LESSONS_FILE,
+                JsonSerializableLessonBook.class).get();
+        LessonBook lessonBookFromFile = dataFromFile.toModelType(TypicalPersons.getTypicalAddressBook());
+        assertEquals(TypicalPersons.getTypicalLessonBook(), lessonBookFromFile);
+    }
+
+    @Test
+    public void toModelType_unknownPhone_skipsUnknownStudent() throws Exception {
+        JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_PHONE_FILE,
+                JsonSerializableLessonBook.class).get();
+        LessonBook lessonBookFromFile = dataFromFile.toModelType(TypicalPersons.getTypicalAddressBook());
+        assertEquals(TypicalPersons.getTypicalLessonBook(), lessonBookFromFile);
+    }
+
+}
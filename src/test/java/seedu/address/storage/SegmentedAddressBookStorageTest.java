@@ -0,0 +1,225 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path manifestFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        manifestFilePath = testFolder.resolve("addressbook.segments").resolve("manifest.json");
+    }
+
+    /**
+     * Returns the paths of the segments recorded in the manifest at {@code manifestFilePath}.
+     */
+    private List<Path> getSegmentFilePaths() throws Exception {
+        JsonAdaptedSegmentManifest manifest =
+                JsonUtil.readJsonFile(manifestFilePath, JsonAdaptedSegmentManifest.class).get();
+        List<Path> segmentFilePaths = new ArrayList<>();
+        for (int i = 0; i < manifest.getSegmentCount(); i++) {
+            segmentFilePaths.add(SegmentedAddressBookStorage.getSegmentFilePath(manifestFilePath, i,
+                    manifest.getSegmentGenerations().get(i)));
+        }
+        return segmentFilePaths;
+    }
+
+    /**
+     * Returns the contents of every segment of the manifest at {@code manifestFilePath}.
+     */
+    private List<String> readSegments() throws Exception {
+        List<String> segments = new ArrayList<>();
+        for (Path segmentFilePath : getSegmentFilePaths()) {
+            segments.add(Files.readString(segmentFilePath));
+        }
+        return segments;
+    }
+
+    private long countSegmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(manifestFilePath.getParent())) {
+            return files.filter(file -> !file.equals(manifestFilePath)).count();
+        }
+    }
+
+    private static int countChanged(List<String> before, List<String> after) {
+        int changed = 0;
+        for (int i = 0; i < before.size(); i++) {
+            if (!before.get(i).equals(after.get(i))) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(manifestFilePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidSegmentCount_throwsDataConversionException() throws Exception {
+        Files.createDirectories(manifestFilePath.getParent());
+        Files.writeString(manifestFilePath, "{\"segmentCount\":0,\"nextPosition\":0}");
+        assertThrows(DataConversionException.class, () ->
+                new SegmentedAddressBookStorage(manifestFilePath).readAddressBook());
+    }
+
+    @Test
+    public void saveThenRead_typicalAddressBook_keepsOrder() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOnlyItsSegment() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).saveAddressBook(addressBook);
+        List<String> before = readSegments();
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("New address").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, countChanged(before, readSegments()));
+        assertEquals(SEGMENT_COUNT, countSegmentFiles()); // the previous generation of the segment is deleted
+        assertEquals(addressBook, new AddressBook(
+                new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_rewritesNoSegments() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+        List<Path> segmentFilePaths = getSegmentFilePaths();
+        for (Path segmentFilePath : segmentFilePaths) {
+            Files.delete(segmentFilePath);
+        }
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        for (Path segmentFilePath : segmentFilePaths) {
+            assertFalse(Files.exists(segmentFilePath));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_personsAddedAndRemoved_keepsOrder() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(
+                new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_keepsOrder() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        List<Person> reversed = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversed);
+        addressBook.setPersons(reversed);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(
+                new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_fewerSegments_deletesUnusedSegments() throws Exception {
+        new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).saveAddressBook(getTypicalAddressBook());
+        new SegmentedAddressBookStorage(manifestFilePath, 1).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(1, getSegmentFilePaths().size());
+        assertEquals(1, countSegmentFiles());
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                new SegmentedAddressBookStorage(manifestFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_segmentOfInterruptedSave_ignored() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // a save that was interrupted after writing a segment of the next generation, but before the manifest
+        JsonAdaptedSegmentManifest manifest =
+                JsonUtil.readJsonFile(manifestFilePath, JsonAdaptedSegmentManifest.class).get();
+        Path newerSegmentFilePath = SegmentedAddressBookStorage.getSegmentFilePath(manifestFilePath, 0,
+                manifest.getGeneration() + 1);
+        Files.writeString(newerSegmentFilePath, "{\"records\":[]}");
+
+        SegmentedAddressBookStorage restartedStorage = new SegmentedAddressBookStorage(manifestFilePath,
+                SEGMENT_COUNT);
+        assertEquals(addressBook, new AddressBook(restartedStorage.readAddressBook().get()));
+
+        addressBook.addPerson(HOON);
+        restartedStorage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(
+                new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_recordedSegmentMissing_throwsDataConversionException() throws Exception {
+        new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).saveAddressBook(getTypicalAddressBook());
+        Files.delete(getSegmentFilePaths().get(0));
+
+        assertThrows(DataConversionException.class, () ->
+                new SegmentedAddressBookStorage(manifestFilePath, SEGMENT_COUNT).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_manifestWithoutGenerations_readsSegments() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new SegmentedAddressBookStorage(manifestFilePath, 1).saveAddressBook(addressBook);
+        Path legacySegmentFilePath = SegmentedAddressBookStorage.getSegmentFilePath(manifestFilePath, 0, 0);
+        Files.move(getSegmentFilePaths().get(0), legacySegmentFilePath);
+        Files.writeString(manifestFilePath, "{\"segmentCount\":1,\"nextPosition\":0}");
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(manifestFilePath, 1);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, countSegmentFiles());
+    }
+}
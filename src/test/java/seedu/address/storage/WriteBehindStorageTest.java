@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalLessonBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.ChangeLog;
+
+public class WriteBehindStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+    private final List<Runnable> scheduledWrites = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = createStorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")));
+    }
+
+    private StorageManager createStorageManager(JsonAddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonDatesBookStorage(testFolder.resolve("db")),
+                new JsonLessonBookStorage(testFolder.resolve("lb")));
+    }
+
+    private void runScheduledWrites() {
+        List<Runnable> writes = new ArrayList<>(scheduledWrites);
+        scheduledWrites.clear();
+        writes.forEach(Runnable::run);
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_writesAddressBook() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_notYetWritten_returnsWithoutWriting() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, scheduledWrites::add);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_writesSnapshot() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, scheduledWrites::add);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        runScheduledWrites();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savedTwiceBeforeWrite_writesOnceWithLatestSnapshot() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, scheduledWrites::add);
+        storage.saveAddressBook(new AddressBook());
+        AddressBook latest = getTypicalAddressBook();
+        storage.saveAddressBook(latest);
+        assertEquals(1, scheduledWrites.size());
+        runScheduledWrites();
+        assertEquals(latest, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savedTwiceBeforeWrite_writesChangesSincePreviousSnapshot() throws Exception {
+        List<ReadOnlyAddressBook> writtenAddressBooks = new ArrayList<>();
+        StorageManager recordingStorageManager = new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonDatesBookStorage(testFolder.resolve("db")),
+                new JsonLessonBookStorage(testFolder.resolve("lb"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                writtenAddressBooks.add(addressBook);
+                super.saveAddressBook(addressBook);
+            }
+        };
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorageManager, scheduledWrites::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        ChangeLog.Mark firstMark = addressBook.getChangeMark().get();
+        runScheduledWrites();
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        runScheduledWrites();
+
+        assertEquals(2, writtenAddressBooks.size());
+        List<ChangeLog.Change<Person>> changes = writtenAddressBooks.get(1).getChangesSince(firstMark).get();
+        assertEquals(2, changes.size());
+        assertEquals(HOON, changes.get(0).getRecord());
+        assertEquals(ALICE, changes.get(1).getRecord());
+        assertTrue(changes.get(1).isRemoval());
+        assertEquals(addressBook.getChangeMark(), writtenAddressBooks.get(1).getChangeMark());
+    }
+
+    @Test
+    public void saveLessonBook_thenFlush_writesLessonBook() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager);
+        LessonBook original = getTypicalLessonBook();
+        storage.saveLessonBook(original);
+        storage.flush();
+        assertEquals(original, new LessonBook(storageManager.readLessonBook(getTypicalAddressBook()).get()));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(
+                new JsonAddressBookIoExceptionThrowingStub(testFolder.resolve("ab"))));
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void saveAddressBook_writeFailed_reportsFailureToHandler() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(
+                new JsonAddressBookIoExceptionThrowingStub(testFolder.resolve("ab"))), scheduledWrites::add);
+        List<Optional<IOException>> statuses = new ArrayList<>();
+        storage.setWriteStatusHandler(statuses::add);
+        storage.saveAddressBook(getTypicalAddressBook());
+        runScheduledWrites();
+        assertEquals(List.of(Optional.of(DUMMY_IO_EXCEPTION)), statuses);
+
+        // the failure is not reported again against the next save
+        storage.saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_writeSucceeded_reportsSuccessToHandler() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, scheduledWrites::add);
+        List<Optional<IOException>> statuses = new ArrayList<>();
+        storage.setWriteStatusHandler(statuses::add);
+        storage.saveAddressBook(getTypicalAddressBook());
+        runScheduledWrites();
+        assertEquals(List.of(Optional.empty()), statuses);
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
+        private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
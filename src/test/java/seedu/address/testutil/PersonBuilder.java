@@ -9,6 +9,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.School;
 import seedu.address.model.person.level.Level;
@@ -29,6 +30,8 @@ public class PersonBuilder {
     public static final String DEFAULT_GUARDIAN_PHONE = "88886666";
     public static final String DEFAULT_LEVEL = "sec3";
 
+    // A new id is generated for each built person unless the builder copies an existing person
+    private PersonId id;
     private Name name;
     private Phone phone;
     private Optional<School> school;
@@ -51,7 +54,7 @@ public class PersonBuilder {
         address = Optional.of(new Address(DEFAULT_ADDRESS));
         guardianName = Optional.of(new Name(DEFAULT_GUARDIAN_NAME));
         guardianPhone = Optional.of(new Phone(DEFAULT_GUARDIAN_PHONE));
-        level = Optional.of(new Level(DEFAULT_LEVEL));
+        level = Optional.of(Level.of(DEFAULT_LEVEL));
         subjects = new HashSet<>();
         lessons = new HashSet<>();
     }
@@ -60,6 +63,7 @@ public class PersonBuilder {
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(Person personToCopy) {
+        id = personToCopy.getId();
         name = personToCopy.getName();
         phone = personToCopy.getPhone();
         school = personToCopy.getSchool();
@@ -148,7 +152,7 @@ public class PersonBuilder {
      * Sets the {@code Level} of the {@code Person} that we are building.
      */
     public PersonBuilder withLevel(String level) {
-        this.level = Optional.of(new Level(level));
+        this.level = Optional.of(Level.of(level));
         return this;
     }
 
@@ -156,7 +160,8 @@ public class PersonBuilder {
      * Builds the {@code Person}.
      */
     public Person build() {
-        return new Person(name, phone, school, email,
+        PersonId personId = id == null ? PersonId.generate() : id;
+        return new Person(personId, name, phone, school, email,
                 address, guardianName, guardianPhone, level, subjects, lessons);
     }
 